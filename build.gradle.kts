@@ -15,6 +15,7 @@ plugins {
     kotlin("jvm") version "2.3.20"
     id("io.papermc.paperweight.userdev") version "2.0.0-beta.21"
     id("xyz.jpenilla.run-paper") version "3.0.2"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "io.github.darksoulq"
@@ -112,6 +113,12 @@ dependencies {
 
 runPaper { folia.registerTask() }
 
+configurations.named("jmhImplementation") { extendsFrom(configurations.compileOnly.get()) }
+
+jmh {
+    jmhVersion = "1.37"
+}
+
 tasks {
     withType<Jar>().configureEach {
         archiveVersion.set(project.version.toString())
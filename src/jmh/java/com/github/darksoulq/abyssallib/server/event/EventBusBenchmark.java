@@ -0,0 +1,81 @@
+package com.github.darksoulq.abyssallib.server.event;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Compares handler dispatch through the invokers generated by {@link EventBus}
+ * with the previous {@link MethodHandle#invokeWithArguments} call and a direct call.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=EventBusBenchmark}, adding
+ * {@code -prof gc} through {@code jmh.profilers} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+
+    private final Listener listener = new Listener();
+    private final BenchEvent event = new BenchEvent();
+    private Consumer<Event> invoker;
+    private MethodHandle handle;
+
+    @Setup
+    public void setup() throws Exception {
+        Method method = Listener.class.getDeclaredMethod("onEvent", BenchEvent.class);
+        invoker = EventBus.createInvoker(listener, method, BenchEvent.class);
+        handle = MethodHandles.lookup().unreflect(method);
+    }
+
+    @Benchmark
+    public void invoker(Blackhole blackhole) {
+        invoker.accept(event);
+        blackhole.consume(listener.received);
+    }
+
+    @Benchmark
+    public void invokeWithArguments(Blackhole blackhole) throws Throwable {
+        handle.invokeWithArguments(listener, event);
+        blackhole.consume(listener.received);
+    }
+
+    @Benchmark
+    public void direct(Blackhole blackhole) {
+        listener.onEvent(event);
+        blackhole.consume(listener.received);
+    }
+
+    public static final class Listener {
+        private long received;
+
+        @SubscribeEvent
+        public void onEvent(BenchEvent event) {
+            received++;
+        }
+    }
+
+    public static final class BenchEvent extends Event {
+        private static final HandlerList HANDLERS = new HandlerList();
+
+        public static HandlerList getHandlerList() {
+            return HANDLERS;
+        }
+
+        @Override
+        public @NotNull HandlerList getHandlers() {
+            return HANDLERS;
+        }
+    }
+}
\ No newline at end of file
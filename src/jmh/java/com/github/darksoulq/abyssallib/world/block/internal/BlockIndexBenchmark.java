@@ -0,0 +1,95 @@
+package com.github.darksoulq.abyssallib.world.block.internal;
+
+import com.github.darksoulq.abyssallib.server.util.regional.RegionalHashMap;
+import com.github.darksoulq.abyssallib.world.block.CustomBlock;
+import net.kyori.adventure.key.Key;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares block lookups through {@link BlockIndex} with the previous
+ * {@link RegionalHashMap} keyed by {@link BlockManager.BlockPos}.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=BlockIndexBenchmark}, adding
+ * {@code -prof gc} through {@code jmh.profilers} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockIndexBenchmark {
+
+    private static final int SPREAD = 256;
+
+    @Param({"10000"})
+    private int blocks;
+
+    private World world;
+    private BlockIndex index;
+    private RegionalHashMap<BlockManager.BlockPos, CustomBlock> legacy;
+    private int[] xs;
+    private int[] ys;
+    private int[] zs;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        UUID uid = UUID.randomUUID();
+        world = (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[]{World.class}, (proxy, method, args) -> switch (method.getName()) {
+            case "getUID" -> uid;
+            case "hashCode" -> uid.hashCode();
+            case "equals" -> proxy == args[0];
+            default -> null;
+        });
+        index = new BlockIndex();
+        legacy = new RegionalHashMap<>(true);
+        xs = new int[blocks];
+        ys = new int[blocks];
+        zs = new int[blocks];
+
+        Random random = new Random(42);
+        for (int i = 0; i < blocks; i++) {
+            xs[i] = random.nextInt(SPREAD * 2) - SPREAD;
+            ys[i] = random.nextInt(320) - 64;
+            zs[i] = random.nextInt(SPREAD * 2) - SPREAD;
+
+            CustomBlock block = new CustomBlock(Key.key("bench", "block"));
+            Location loc = new Location(world, xs[i], ys[i], zs[i]);
+            block.setLocation(loc);
+            index.put(block);
+            legacy.put(new BlockManager.BlockPos(loc), block);
+        }
+    }
+
+    private int next() {
+        int i = cursor;
+        cursor = i + 1 == blocks ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public CustomBlock index() {
+        int i = next();
+        return index.get(world, xs[i], ys[i], zs[i]);
+    }
+
+    @Benchmark
+    public CustomBlock legacy() {
+        int i = next();
+        return legacy.get(new BlockManager.BlockPos(new Location(world, xs[i], ys[i], zs[i])));
+    }
+
+    @Benchmark
+    public CustomBlock indexMiss() {
+        int i = next();
+        return index.get(world, xs[i], ys[i] + 1024, zs[i]);
+    }
+}
\ No newline at end of file
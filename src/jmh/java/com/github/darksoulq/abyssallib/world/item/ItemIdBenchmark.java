@@ -0,0 +1,63 @@
+package com.github.darksoulq.abyssallib.world.item;
+
+import com.github.darksoulq.abyssallib.world.item.component.builtin.CustomMarker;
+import net.kyori.adventure.key.Key;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.component.CustomData;
+import org.bukkit.craftbukkit.inventory.CraftItemStack;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares probing a stack with {@link Item#idOf(ItemStack)} against the
+ * previous approach of wrapping it in an {@link Item} and reading its
+ * {@link CustomMarker}, for the stacks most probes see: vanilla stacks and
+ * stacks carrying another plugin's custom data.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=ItemIdBenchmark}, adding
+ * {@code -prof gc} through {@code jmh.profilers} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemIdBenchmark {
+
+    @Param({"vanilla", "foreign_data"})
+    private String kind;
+
+    private ItemStack stack;
+
+    @Setup
+    public void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        net.minecraft.world.item.ItemStack nms = new net.minecraft.world.item.ItemStack(Items.DIAMOND_SWORD);
+        if (kind.equals("foreign_data")) {
+            CompoundTag tag = new CompoundTag();
+            tag.putString("other_plugin", "value");
+            nms.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        }
+        stack = CraftItemStack.asCraftMirror(nms);
+    }
+
+    @Benchmark
+    public Key idOf() {
+        return Item.idOf(stack);
+    }
+
+    @Benchmark
+    public Key wrap() {
+        Item base = new Item(stack);
+        return base.hasData(CustomMarker.TYPE) ? base.getData(CustomMarker.TYPE).getValue() : null;
+    }
+}
\ No newline at end of file
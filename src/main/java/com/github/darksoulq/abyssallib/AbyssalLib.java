@@ -7,7 +7,10 @@ import com.github.darksoulq.abyssallib.server.permission.PermissionManager;
 import com.github.darksoulq.abyssallib.server.permission.internal.PermissionWebServer;
 import com.github.darksoulq.abyssallib.server.registry.Registries;
 import com.github.darksoulq.abyssallib.server.resource.PackServer;
+import com.github.darksoulq.abyssallib.server.scheduler.BudgetedQueue;
+import com.github.darksoulq.abyssallib.server.scheduler.RealtimeTaskDispatcher;
 import com.github.darksoulq.abyssallib.server.scheduler.Scheduler;
+import com.github.darksoulq.abyssallib.server.scheduler.TaskMetrics;
 import com.github.darksoulq.abyssallib.server.util.Integrations;
 import com.github.darksoulq.abyssallib.server.util.UpdateChecker;
 import dev.faststats.bukkit.BukkitMetrics;
@@ -50,6 +53,9 @@ public final class AbyssalLib extends JavaPlugin {
 
         CONFIG = new PluginConfig();
         CONFIG.cfg.save();
+        RealtimeTaskDispatcher.configure(CONFIG.features.asyncMode.get(), CONFIG.features.asyncPoolSize.get());
+        BudgetedQueue.configure(CONFIG.features.tickBudget.get());
+        TaskMetrics.setSlowThreshold(CONFIG.features.slowTaskThreshold.get());
 
         Permissions.init(this);
         Events.init(this);
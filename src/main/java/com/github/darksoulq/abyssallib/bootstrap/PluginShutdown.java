@@ -2,8 +2,11 @@ package com.github.darksoulq.abyssallib.bootstrap;
 
 import com.github.darksoulq.abyssallib.AbyssalLib;
 import com.github.darksoulq.abyssallib.common.energy.EnergyNetwork;
+import com.github.darksoulq.abyssallib.server.scheduler.RealtimeTaskDispatcher;
 import com.github.darksoulq.abyssallib.world.block.internal.BlockManager;
 
+import java.util.concurrent.TimeUnit;
+
 public final class PluginShutdown {
 
     public static void execute() {
@@ -21,5 +24,7 @@ public final class PluginShutdown {
         if (AbyssalLib.PERMISSION_WEB_SERVER != null && AbyssalLib.PERMISSION_WEB_SERVER.isEnabled()) {
             AbyssalLib.PERMISSION_WEB_SERVER.stop();
         }
+
+        RealtimeTaskDispatcher.shutdown(5, TimeUnit.SECONDS);
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.github.darksoulq.abyssallib.common.config.internal;
 
 import com.github.darksoulq.abyssallib.common.config.Config;
 import com.github.darksoulq.abyssallib.common.serialization.Codec;
+import com.github.darksoulq.abyssallib.common.serialization.Codecs;
+import com.github.darksoulq.abyssallib.server.scheduler.RealtimeTaskDispatcher;
 
 import java.util.List;
 
@@ -110,22 +112,28 @@ public class PluginConfig {
 
     public static class Features {
         public Config.Value<Integer> structureBlocksPlacedPerTick;
-        public Config.Value<Integer> serverTranslationTickDelay;
-        public Config.Value<Boolean> tickServerTranslations;
         public Config.Value<Boolean> enableItemTicking;
         public Config.Value<Boolean> enableEnergyNetwork;
+        public Config.Value<RealtimeTaskDispatcher.Mode> asyncMode;
+        public Config.Value<Integer> asyncPoolSize;
+        public Config.Value<Double> tickBudget;
+        public Config.Value<Double> slowTaskThreshold;
 
         public Features(Config cfg) {
-            structureBlocksPlacedPerTick = cfg.value("features.structure_blocks_per_tick", 200)
-                .withComment("How many blocks should be placed per tick when using structure block");
-            serverTranslationTickDelay = cfg.value("features.server_translation_delay", 5)
-                .withComment("How frequently server translations should update", "Lower values may cause ghost items more frequently");
-            tickServerTranslations = cfg.value("features.tick_server_translations", true)
-                .withComment("Whether or not server side translations should be updated", "This is useful for item tooltips that need to update values each tick");
+            structureBlocksPlacedPerTick = cfg.value("features.structure_blocks_per_tick", 0)
+                .withComment("How many blocks should be placed per tick when using structure block", "Set to 0 to place as many as the tick budget allows");
             enableItemTicking = cfg.value("features.enable_item_ticking", true)
                 .withComment("Whether the Item#onTick method should be called, Disabling can increase performance", "DO NOT disable if a plugin is using it");
             enableEnergyNetwork = cfg.value("features.enable_energy_network", true)
                 .withComment("Whether the Energy API should be enabled", "DO NOT disable it if using a plugin that depends on it");
+            asyncMode = cfg.value("features.async_mode", RealtimeTaskDispatcher.Mode.POOLED, Codec.enumCodec(RealtimeTaskDispatcher.Mode.class))
+                .withComment("How async tasks are run (POOLED or VIRTUAL)", "POOLED runs each purpose (e.g. database) on its own bounded thread pool, VIRTUAL runs every task on a virtual thread");
+            asyncPoolSize = cfg.value("features.async_pool_size", 4)
+                .withComment("How many threads each async pool may use in POOLED mode");
+            tickBudget = cfg.value("features.tick_budget_ms", 5.0, Codecs.DOUBLE)
+                .withComment("How many milliseconds per tick budgeted work (e.g. structure placement) may use", "The budget shrinks automatically while the server is behind on ticks");
+            slowTaskThreshold = cfg.value("features.slow_task_threshold_ms", 20.0, Codecs.DOUBLE)
+                .withComment("Scheduled tasks running longer than this many milliseconds are logged while scheduler profiling is on", "Set to 0 to disable the warnings");
         }
     }
 
@@ -161,6 +161,7 @@ public abstract class AbstractEnergyConductor implements EnergyConductor {
             double old = buffer;
             buffer -= toExtract;
             EventBus.post(new EnergyNodeChangeEvent(this, unit, old, buffer, !org.bukkit.Bukkit.isPrimaryThread()));
+            EnergyNetwork.markActive(this);
         }
 
         return toExtract;
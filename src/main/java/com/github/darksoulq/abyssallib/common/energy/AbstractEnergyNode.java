@@ -146,6 +146,7 @@ public abstract class AbstractEnergyNode implements EnergyNode {
             double old = energy;
             energy += toInsert;
             EventBus.post(new EnergyNodeChangeEvent(this, unit, old, energy, !org.bukkit.Bukkit.isPrimaryThread()));
+            EnergyNetwork.markActive(this);
         }
 
         return toInsert;
@@ -171,6 +172,7 @@ public abstract class AbstractEnergyNode implements EnergyNode {
             double old = energy;
             energy -= toExtract;
             EventBus.post(new EnergyNodeChangeEvent(this, unit, old, energy, !Bukkit.isPrimaryThread()));
+            EnergyNetwork.markActive(this);
         }
 
         return toExtract;
@@ -186,6 +188,7 @@ public abstract class AbstractEnergyNode implements EnergyNode {
      */
     public void setCapacity(double cap) {
         capacity = Math.max(0, cap);
+        EnergyNetwork.markActive(this);
 
         if (energy > capacity) {
             double prev = energy;
@@ -0,0 +1,430 @@
+package com.github.darksoulq.abyssallib.common.energy;
+
+import com.github.darksoulq.abyssallib.server.event.EventBus;
+import com.github.darksoulq.abyssallib.server.event.custom.energy.EnergyGridTransferEvent;
+import com.github.darksoulq.abyssallib.server.event.custom.energy.EnergyNetworkTransferEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.BlockFace;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A connected component of the energy graph.
+ * <p>
+ * Grids are maintained by {@link EnergyNetwork} as nodes are registered,
+ * connected and disconnected. Every node reachable through connections belongs
+ * to exactly one grid, so grids never share state with each other.
+ *
+ * <p>
+ * For each source the grid caches the sinks reachable through conductors,
+ * so distribution only walks a precomputed array until the topology of the
+ * grid changes again.
+ *
+ * <p>
+ * Because grids are independent, separate grids may be distributed
+ * concurrently: on Folia a grid is split into {@link Area}s that each run on
+ * the region owning them, otherwise grids of
+ * {@link EnergyNode#isThreadSafe() thread-safe} nodes are spread over a small
+ * worker pool.
+ *
+ * <p>
+ * A grid that moves no energy for {@link #SLEEP_AFTER} consecutive ticks goes
+ * to sleep and is skipped entirely until it is woken by a node change, such as
+ * a buffer update, a node being added or a connection changing.
+ */
+public final class EnergyGrid {
+
+    /**
+     * Number of consecutive idle ticks after which a grid goes to sleep.
+     */
+    static final int SLEEP_AFTER = 20;
+
+    /**
+     * Chunk shift of the areas a grid is split into on Folia, matching the
+     * default size of a Folia region section so an area never spans regions.
+     */
+    static final int AREA_SHIFT = 4;
+
+    /**
+     * All nodes belonging to this grid.
+     */
+    final Set<EnergyNode> nodes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Nodes of this grid that are currently able to send or receive energy.
+     */
+    final Set<EnergyNode> active = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Cached sink routes per source, replaced whenever the topology changes.
+     */
+    private volatile Map<EnergyNode, Route[]> routes = new ConcurrentHashMap<>();
+
+    /**
+     * Cached placement information, recomputed after topology changes.
+     */
+    private volatile Layout layout;
+
+    /**
+     * Consecutive ticks in which this grid transferred no energy.
+     */
+    private int idleTicks;
+
+    /**
+     * Whether distribution is suspended until the next wake-up signal.
+     */
+    private volatile boolean sleeping;
+
+    EnergyGrid() {
+    }
+
+    /**
+     * @return an unmodifiable view of the nodes in this grid
+     */
+    public Set<EnergyNode> getNodes() {
+        return Collections.unmodifiableSet(nodes);
+    }
+
+    /**
+     * @return the number of nodes in this grid
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * @return true if this grid is idle and skipped during distribution
+     */
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
+    /**
+     * Adds a node to this grid and evaluates whether it is active.
+     *
+     * @param node the node to add
+     */
+    void add(EnergyNode node) {
+        nodes.add(node);
+        markActive(node);
+        wake();
+    }
+
+    /**
+     * Removes a node from this grid.
+     *
+     * @param node the node to remove
+     */
+    void remove(EnergyNode node) {
+        nodes.remove(node);
+        active.remove(node);
+    }
+
+    /**
+     * Updates whether a node should be considered active.
+     *
+     * @param node the node to evaluate
+     */
+    void markActive(EnergyNode node) {
+        if (node.canProvide(null) || node.canReceive(null)) {
+            active.add(node);
+        } else {
+            active.remove(node);
+        }
+    }
+
+    /**
+     * Drops all cached routes after a topology change.
+     */
+    void invalidate() {
+        routes = new ConcurrentHashMap<>();
+        layout = null;
+        wake();
+    }
+
+    /**
+     * Resumes distribution of this grid.
+     */
+    void wake() {
+        idleTicks = 0;
+        sleeping = false;
+    }
+
+    /**
+     * @return true if every node of this grid is thread-safe
+     */
+    boolean isThreadSafe() {
+        return layout().threadSafe;
+    }
+
+    /**
+     * @return the areas containing placed nodes, empty if no node is placed
+     */
+    List<Area> areas() {
+        return layout().areas;
+    }
+
+    private Layout layout() {
+        Layout current = layout;
+        if (current != null) return current;
+
+        boolean threadSafe = true;
+        Map<AreaKey, Area> areas = new LinkedHashMap<>();
+        for (EnergyNode node : nodes) {
+            threadSafe &= node.isThreadSafe();
+            Location loc = node.getLocation();
+            if (loc == null || loc.getWorld() == null) continue;
+            AreaKey key = new AreaKey(loc.getWorld().getUID(), loc.getBlockX() >> (4 + AREA_SHIFT), loc.getBlockZ() >> (4 + AREA_SHIFT));
+            areas.computeIfAbsent(key, k -> new Area(loc.getWorld(), k.x(), k.z(), areas.isEmpty()));
+        }
+        current = new Layout(threadSafe, List.copyOf(areas.values()));
+        layout = current;
+        return current;
+    }
+
+    /**
+     * Distributes energy from every active source to its reachable sinks.
+     * <p>
+     * {@link EnergyNetworkTransferEvent}s are only posted while the event has
+     * listeners, and a single {@link EnergyGridTransferEvent} summarising the
+     * tick is posted if that event has listeners.
+     */
+    void distribute() {
+        distribute(null);
+    }
+
+    /**
+     * Distributes energy from the active sources inside an area.
+     * <p>
+     * Must run on the region owning the area. Sinks owned by another region are
+     * skipped this tick, and sources without a location are handled by the
+     * grid's primary area.
+     *
+     * @param area the area to distribute, or null to distribute the whole grid
+     */
+    void distribute(@Nullable Area area) {
+        if (sleeping) return;
+
+        boolean perPair = EnergyNetworkTransferEvent.getHandlerList().getRegisteredListeners().length > 0;
+        boolean aggregate = EnergyGridTransferEvent.getHandlerList().getRegisteredListeners().length > 0;
+        Map<EnergyNode, Double> extractedBySource = aggregate ? new HashMap<>() : null;
+        Map<EnergyNode, Double> receivedBySink = aggregate ? new HashMap<>() : null;
+        int transfers = 0;
+
+        boolean transferred = false;
+        for (EnergyNode source : active) {
+            if (area != null && !area.contains(source.getLocation())) continue;
+            if (!source.canProvide(null)) {
+                active.remove(source);
+                continue;
+            }
+
+            double available = source.extract(null, source.getMaxExtract(), Action.SIMULATE);
+            if (available <= 0) continue;
+
+            Route[] sinks = routes(source);
+            int receivers = 0;
+            for (Route route : sinks) {
+                if (area != null && !area.owns(route.sink)) continue;
+                if (route.sink.canReceive(route.face)) receivers++;
+            }
+            if (receivers == 0) continue;
+
+            double energyPerSink = available / receivers;
+            double totalExtracted = 0;
+
+            for (Route route : sinks) {
+                EnergyNode sink = route.sink;
+                BlockFace face = route.face;
+                if (area != null && !area.owns(sink)) continue;
+                if (!sink.canReceive(face)) continue;
+
+                double simulatedInsertSpace =
+                    sink.insert(face, sink.getMaxInsert(), Action.SIMULATE);
+
+                double spaceInSourceUnit =
+                    sink.getUnit().convert(simulatedInsertSpace, source.getUnit());
+
+                double toTransfer = Math.min(energyPerSink, spaceInSourceUnit);
+
+                if (toTransfer > 0) {
+                    if (perPair) {
+                        EnergyNetworkTransferEvent event =
+                            new EnergyNetworkTransferEvent(source, sink, source.getUnit(),
+                                toTransfer, !Bukkit.isPrimaryThread());
+
+                        EventBus.post(event);
+                        if (event.isCancelled()) continue;
+
+                        toTransfer = event.getAmount();
+                    }
+
+                    double extracted =
+                        source.extract(null, toTransfer, Action.EXECUTE);
+
+                    double convertedInsert =
+                        source.getUnit().convert(extracted, sink.getUnit());
+
+                    double inserted = sink.insert(face, convertedInsert, Action.EXECUTE);
+
+                    totalExtracted += extracted;
+                    markActive(sink);
+
+                    if (aggregate && extracted > 0) {
+                        transfers++;
+                        extractedBySource.merge(source, extracted, Double::sum);
+                        receivedBySink.merge(sink, inserted, Double::sum);
+                    }
+                }
+            }
+
+            if (totalExtracted > 0) {
+                transferred = true;
+                markActive(source);
+            } else if (!(source instanceof EnergyConductor)) {
+                active.remove(source);
+            }
+        }
+
+        if (transfers > 0) {
+            EventBus.post(new EnergyGridTransferEvent(this, transfers, extractedBySource, receivedBySink, !Bukkit.isPrimaryThread()));
+        }
+
+        if (transferred) {
+            idleTicks = 0;
+        } else if ((area == null || area.primary) && ++idleTicks >= SLEEP_AFTER) {
+            sleeping = true;
+        }
+    }
+
+    /**
+     * Returns the sinks reachable from a source, computing them on first use.
+     * <p>
+     * Energy travels through conductors only; any other node reached is a
+     * potential sink and terminates the traversal.
+     *
+     * @param source the providing node
+     * @return the cached sink routes
+     */
+    private Route[] routes(EnergyNode source) {
+        Map<EnergyNode, Route[]> cache = routes;
+        Route[] cached = cache.get(source);
+        if (cached != null) return cached;
+
+        Set<EnergyNode> visited = new HashSet<>();
+        Queue<EnergyNode> queue = new ArrayDeque<>();
+        List<Route> sinks = new ArrayList<>();
+
+        visited.add(source);
+        queue.add(source);
+
+        while (!queue.isEmpty()) {
+            EnergyNode current = queue.poll();
+
+            for (Map.Entry<BlockFace, EnergyNode> entry : current.getConnections().entrySet()) {
+                EnergyNode neighbor = entry.getValue();
+                BlockFace faceToNeighbor = entry.getKey();
+                BlockFace faceFromNeighbor =
+                    faceToNeighbor != null ? faceToNeighbor.getOppositeFace() : null;
+
+                if (visited.add(neighbor)) {
+                    if (neighbor instanceof EnergyConductor) {
+                        queue.add(neighbor);
+                    } else {
+                        sinks.add(new Route(neighbor, faceFromNeighbor));
+                    }
+                }
+            }
+        }
+
+        Route[] result = sinks.toArray(new Route[0]);
+        cache.put(source, result);
+        return result;
+    }
+
+    /**
+     * Placement information derived from the nodes of a grid.
+     *
+     * @param threadSafe whether every node is thread-safe
+     * @param areas      the areas containing placed nodes
+     */
+    private record Layout(boolean threadSafe, List<Area> areas) {
+    }
+
+    /**
+     * Identifies an area of a grid by world and area coordinates.
+     *
+     * @param world the world UID
+     * @param x     the area x coordinate
+     * @param z     the area z coordinate
+     */
+    private record AreaKey(UUID world, int x, int z) {
+    }
+
+    /**
+     * A part of a grid distributed on its own region on Folia.
+     */
+    static final class Area {
+
+        /**
+         * The world the area lies in.
+         */
+        private final World world;
+
+        /**
+         * The area coordinates, in units of {@code 1 << AREA_SHIFT} chunks.
+         */
+        private final int x;
+        private final int z;
+
+        /**
+         * Whether this area also handles unplaced sources and idle tracking.
+         */
+        private final boolean primary;
+
+        /**
+         * Whether a region task distributing this area is already pending.
+         */
+        final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Area(World world, int x, int z, boolean primary) {
+            this.world = world;
+            this.x = x;
+            this.z = z;
+            this.primary = primary;
+        }
+
+        /**
+         * @return the block location of the first chunk of this area
+         */
+        Location origin() {
+            return new Location(world, (x << AREA_SHIFT) << 4, 0, (z << AREA_SHIFT) << 4);
+        }
+
+        private boolean contains(@Nullable Location loc) {
+            if (loc == null || loc.getWorld() == null) return primary;
+            return loc.getWorld().equals(world)
+                && loc.getBlockX() >> (4 + AREA_SHIFT) == x
+                && loc.getBlockZ() >> (4 + AREA_SHIFT) == z;
+        }
+
+        private boolean owns(EnergyNode node) {
+            Location loc = node.getLocation();
+            return loc == null || Bukkit.isOwnedByCurrentRegion(loc);
+        }
+    }
+
+    /**
+     * A sink reachable from a source and the face energy enters it through.
+     *
+     * @param sink the receiving node
+     * @param face the side of the sink facing the network
+     */
+    private record Route(EnergyNode sink, @Nullable BlockFace face) {
+    }
+}
\ No newline at end of file
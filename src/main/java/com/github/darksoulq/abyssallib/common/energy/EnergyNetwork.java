@@ -8,16 +8,20 @@ import com.github.darksoulq.abyssallib.common.database.relational.sql.Database;
 import com.github.darksoulq.abyssallib.common.serialization.DataResult;
 import com.github.darksoulq.abyssallib.common.serialization.ops.JsonOps;
 import com.github.darksoulq.abyssallib.server.event.EventBus;
-import com.github.darksoulq.abyssallib.server.event.custom.energy.EnergyNetworkTransferEvent;
 import com.github.darksoulq.abyssallib.server.event.custom.energy.EnergyNodeAddEvent;
 import com.github.darksoulq.abyssallib.server.event.custom.energy.EnergyNodeRemoveEvent;
 import com.github.darksoulq.abyssallib.server.scheduler.Clock;
+import com.github.darksoulq.abyssallib.server.util.regional.RegionalCollections;
 import org.bukkit.Bukkit;
-import org.bukkit.block.BlockFace;
+import org.bukkit.Location;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.regex.Pattern;
 
 /**
  * Central manager responsible for handling all energy node interactions.
@@ -30,8 +34,10 @@ import java.util.concurrent.ConcurrentHashMap;
  * </ul>
  *
  * <p>
- * The distribution system uses a breadth-first traversal to locate valid sinks
- * and distribute energy evenly across them.
+ * Nodes are grouped into {@link EnergyGrid}s, the connected components of the
+ * energy graph. Grids are merged and split incrementally as nodes connect and
+ * disconnect, and each grid caches the sinks reachable from its sources so
+ * distribution does not re-traverse the graph every tick.
  */
 public final class EnergyNetwork {
 
@@ -49,28 +55,62 @@ public final class EnergyNetwork {
     private static final Set<EnergyNode> NODES = ConcurrentHashMap.newKeySet();
 
     /**
-     * Nodes that are currently active (able to send or receive energy).
+     * Persistent identifier of every registered node.
      */
-    private static final Set<EnergyNode> ACTIVE_NODES = ConcurrentHashMap.newKeySet();
+    private static final Map<EnergyNode, String> IDS = new ConcurrentHashMap<>();
 
     /**
-     * Backing database used for persistence.
+     * Registered nodes by persistent identifier.
      */
-    private static final Database DATABASE = new Database(new File(AbyssalLib.getInstance().getDataFolder(), "energy_network.db"));
+    private static final Map<String, EnergyNode> BY_ID = new ConcurrentHashMap<>();
+
+    /**
+     * Nodes whose stored state changed since the last save.
+     */
+    private static final Set<EnergyNode> DIRTY = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Identifiers of nodes unregistered since the last save.
+     */
+    private static final Set<String> REMOVED = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Matches identifiers written by older versions, which were not stable across restarts.
+     */
+    private static final Pattern LEGACY_ID = Pattern.compile(".+@-?\\d+");
+
+    /**
+     * Grid membership of every tracked node, including unregistered conductors
+     * reachable from registered nodes.
+     */
+    private static final Map<EnergyNode, EnergyGrid> MEMBERSHIP = new ConcurrentHashMap<>();
+
+    /**
+     * All live grids.
+     */
+    private static final Set<EnergyGrid> GRIDS = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Guards structural changes to grids.
+     */
+    private static final Object TOPOLOGY = new Object();
+
+    /**
+     * Worker pool used to distribute thread-safe grids in parallel.
+     */
+    private static final ForkJoinPool WORKERS = new ForkJoinPool(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)));
 
     /**
-     * Thread-local pools used to avoid allocations during traversal.
+     * Backing database used for persistence.
      */
-    private static final ThreadLocal<Set<EnergyNode>> VISITED_POOL = ThreadLocal.withInitial(HashSet::new);
-    private static final ThreadLocal<Queue<EnergyNode>> QUEUE_POOL = ThreadLocal.withInitial(ArrayDeque::new);
-    private static final ThreadLocal<Map<EnergyNode, BlockFace>> SINK_POOL = ThreadLocal.withInitial(HashMap::new);
+    private static final Database DATABASE = new Database(new File(AbyssalLib.getInstance().getDataFolder(), "energy_network.db"));
 
     /**
      * Initializes the network scheduler and database.
      */
     public static void init() {
         AbyssalLib.SCHEDULER.schedule(EnergyNetwork::distribute).global().repeatEvery(1L, Clock.TICKS);
-        AbyssalLib.SCHEDULER.schedule(EnergyNetwork::save).global().async().after(2400L, Clock.TICKS).repeatEvery(6000L, Clock.TICKS);
+        AbyssalLib.SCHEDULER.schedule(EnergyNetwork::save).global().async("database").after(2400L, Clock.TICKS).repeatEvery(6000L, Clock.TICKS);
 
         try {
             DATABASE.connect();
@@ -91,14 +131,35 @@ public final class EnergyNetwork {
      * @param node the node to register
      */
     public static void register(EnergyNode node) {
+        register(node, null);
+    }
+
+    /**
+     * Registers a node, optionally restoring its persistent identifier.
+     *
+     * @param node the node to register
+     * @param id   the stored identifier, or null to assign one and persist the node
+     */
+    private static void register(EnergyNode node, @Nullable String id) {
         EnergyNodeAddEvent event = new EnergyNodeAddEvent(node, node.getUnit(), !Bukkit.isPrimaryThread());
         EventBus.post(event);
         if (event.isCancelled()) return;
 
         NODES.add(node);
+        if (id != null) {
+            IDS.put(node, id);
+            BY_ID.put(id, node);
+        } else {
+            IDS.computeIfAbsent(node, EnergyNetwork::assignId);
+            DIRTY.add(node);
+        }
 
-        if (node.canProvide(null) || node.canReceive(null)) {
-            ACTIVE_NODES.add(node);
+        synchronized (TOPOLOGY) {
+            if (!MEMBERSHIP.containsKey(node)) {
+                EnergyGrid grid = new EnergyGrid();
+                GRIDS.add(grid);
+                join(grid, node).invalidate();
+            }
         }
     }
 
@@ -113,11 +174,25 @@ public final class EnergyNetwork {
         if (event.isCancelled()) return;
 
         NODES.remove(node);
-        ACTIVE_NODES.remove(node);
+        DIRTY.remove(node);
+        String id = IDS.remove(node);
+        if (id != null) {
+            BY_ID.remove(id, node);
+            REMOVED.add(id);
+        }
 
         node.getConnections().forEach((face, connected) ->
             connected.disconnect(face != null ? face.getOppositeFace() : null, node, face)
         );
+
+        synchronized (TOPOLOGY) {
+            EnergyGrid grid = MEMBERSHIP.remove(node);
+            if (grid != null) {
+                grid.remove(node);
+                grid.invalidate();
+                if (grid.nodes.isEmpty()) GRIDS.remove(grid);
+            }
+        }
     }
 
     /**
@@ -127,155 +202,379 @@ public final class EnergyNetwork {
         return NODES;
     }
 
+    /**
+     * Returns the persistent identifier of a registered node.
+     * <p>
+     * Nodes bound to a location are identified by their position; other nodes
+     * receive a random UUID. Identifiers are restored on load, so they remain
+     * stable across restarts.
+     *
+     * @param node the node to look up
+     * @return the identifier, or null if the node is not registered
+     */
+    public static @Nullable String getId(EnergyNode node) {
+        return IDS.get(node);
+    }
+
+    /**
+     * Flags a registered node so its state is written on the next save.
+     *
+     * @param node the node that changed
+     */
+    public static void markDirty(EnergyNode node) {
+        if (IDS.containsKey(node)) DIRTY.add(node);
+    }
+
+    /**
+     * @return all live grids
+     */
+    public static Set<EnergyGrid> getGrids() {
+        return Collections.unmodifiableSet(GRIDS);
+    }
+
+    /**
+     * Returns the grid a node currently belongs to.
+     *
+     * @param node the node to look up
+     * @return the owning grid, or null if the node is not tracked
+     */
+    public static @Nullable EnergyGrid getGrid(EnergyNode node) {
+        return MEMBERSHIP.get(node);
+    }
+
     /**
      * Updates whether a node should be considered active.
      *
      * @param node the node to evaluate
      */
     public static void markActive(EnergyNode node) {
-        if (node.canProvide(null) || node.canReceive(null)) {
-            ACTIVE_NODES.add(node);
-        } else {
-            ACTIVE_NODES.remove(node);
-        }
+        markDirty(node);
+        EnergyGrid grid = MEMBERSHIP.get(node);
+        if (grid == null) return;
+
+        grid.markActive(node);
+        grid.wake();
     }
 
     /**
-     * Performs energy distribution across the network.
+     * Wakes the grid of a node so it is distributed again.
      * <p>
-     * Uses BFS traversal to locate sinks and evenly distribute energy.
+     * Idle grids are skipped until one of their nodes signals a change.
+     * {@link AbstractEnergyNode} and {@link AbstractEnergyConductor} do this
+     * on every executed transfer; other implementations must call this
+     * whenever their stored energy or transfer ability changes.
+     *
+     * @param node the node that changed
      */
-    public static void distribute() {
-        if (ACTIVE_NODES.isEmpty()) return;
+    public static void wake(EnergyNode node) {
+        markDirty(node);
+        EnergyGrid grid = MEMBERSHIP.get(node);
+        if (grid != null) grid.wake();
+    }
 
-        Set<EnergyNode> visited = VISITED_POOL.get();
-        Queue<EnergyNode> queue = QUEUE_POOL.get();
-        Map<EnergyNode, BlockFace> sinks = SINK_POOL.get();
+    /**
+     * Re-evaluates the grid of a node after its connections were modified
+     * directly instead of through {@link EnergyNode#connect} or
+     * {@link EnergyNode#disconnect}.
+     *
+     * @param node the node whose connections changed
+     */
+    public static void refresh(EnergyNode node) {
+        synchronized (TOPOLOGY) {
+            EnergyGrid grid = MEMBERSHIP.get(node);
+            if (grid == null) return;
 
-        for (EnergyNode source : ACTIVE_NODES) {
-            if (!source.canProvide(null)) {
-                ACTIVE_NODES.remove(source);
-                continue;
+            for (EnergyNode neighbor : node.getConnections().values()) {
+                grid = join(grid, neighbor);
             }
+            split(grid);
+        }
+    }
 
-            double available = source.extract(null, source.getMaxExtract(), Action.SIMULATE);
-            if (available <= 0) continue;
-
-            visited.clear();
-            queue.clear();
-            sinks.clear();
-
-            visited.add(source);
-            queue.add(source);
+    /**
+     * Called after two nodes were connected.
+     *
+     * @param a the first node
+     * @param b the second node
+     */
+    static void connected(EnergyNode a, EnergyNode b) {
+        markDirty(a);
+        markDirty(b);
+        synchronized (TOPOLOGY) {
+            EnergyGrid grid = MEMBERSHIP.get(a);
+            if (grid == null) grid = MEMBERSHIP.get(b);
+            if (grid == null) return;
+
+            grid = join(grid, a);
+            grid = join(grid, b);
+            grid.invalidate();
+        }
+    }
 
-            while (!queue.isEmpty()) {
-                EnergyNode current = queue.poll();
-
-                for (Map.Entry<BlockFace, EnergyNode> entry : current.getConnections().entrySet()) {
-                    EnergyNode neighbor = entry.getValue();
-                    BlockFace faceToNeighbor = entry.getKey();
-                    BlockFace faceFromNeighbor =
-                        faceToNeighbor != null ? faceToNeighbor.getOppositeFace() : null;
-
-                    if (visited.add(neighbor)) {
-                        if (neighbor instanceof EnergyConductor) {
-                            queue.add(neighbor);
-                        } else if (neighbor.canReceive(faceFromNeighbor)) {
-                            sinks.put(neighbor, faceFromNeighbor);
-                        }
-                    }
-                }
+    /**
+     * Called after two nodes were disconnected.
+     *
+     * @param a the first node
+     * @param b the second node
+     */
+    static void disconnected(EnergyNode a, EnergyNode b) {
+        markDirty(a);
+        markDirty(b);
+        synchronized (TOPOLOGY) {
+            EnergyGrid grid = MEMBERSHIP.get(a);
+            EnergyGrid other = MEMBERSHIP.get(b);
+            if (grid != null && grid == other) {
+                split(grid);
+                return;
             }
+            if (grid != null) grid.invalidate();
+            if (other != null) other.invalidate();
+        }
+    }
 
-            if (sinks.isEmpty()) continue;
-
-            double energyPerSink = available / sinks.size();
-            double totalExtracted = 0;
+    /**
+     * Adds every untracked node reachable from {@code seed} to {@code grid},
+     * merging any other grid encountered on the way.
+     *
+     * @param grid the grid to extend
+     * @param seed the node to start from
+     * @return the surviving grid
+     */
+    private static EnergyGrid join(EnergyGrid grid, EnergyNode seed) {
+        Queue<EnergyNode> queue = new ArrayDeque<>();
+        queue.add(seed);
 
-            for (Map.Entry<EnergyNode, BlockFace> entry : sinks.entrySet()) {
-                EnergyNode sink = entry.getKey();
-                BlockFace face = entry.getValue();
+        while (!queue.isEmpty()) {
+            EnergyNode node = queue.poll();
+            EnergyGrid current = MEMBERSHIP.get(node);
 
-                double simulatedInsertSpace =
-                    sink.insert(face, sink.getMaxInsert(), Action.SIMULATE);
+            if (current == grid) continue;
+            if (current != null) {
+                grid = merge(grid, current);
+                continue;
+            }
 
-                double spaceInSourceUnit =
-                    sink.getUnit().convert(simulatedInsertSpace, source.getUnit());
+            MEMBERSHIP.put(node, grid);
+            grid.add(node);
+            queue.addAll(node.getConnections().values());
+        }
+        return grid;
+    }
 
-                double toTransfer = Math.min(energyPerSink, spaceInSourceUnit);
+    /**
+     * Merges the smaller of two grids into the larger one.
+     *
+     * @return the surviving grid
+     */
+    private static EnergyGrid merge(EnergyGrid a, EnergyGrid b) {
+        EnergyGrid target = a.size() >= b.size() ? a : b;
+        EnergyGrid source = target == a ? b : a;
 
-                if (toTransfer > 0) {
-                    EnergyNetworkTransferEvent event =
-                        new EnergyNetworkTransferEvent(source, sink, source.getUnit(),
-                            toTransfer, !Bukkit.isPrimaryThread());
+        for (EnergyNode node : source.nodes) {
+            MEMBERSHIP.put(node, target);
+            target.nodes.add(node);
+        }
+        target.active.addAll(source.active);
+        target.invalidate();
+        GRIDS.remove(source);
+        return target;
+    }
 
-                    EventBus.post(event);
-                    if (event.isCancelled()) continue;
+    /**
+     * Recomputes the connected components of a grid and splits off every
+     * component but the largest into its own grid. Components without any
+     * registered node are dropped.
+     *
+     * @param grid the grid to check
+     */
+    private static void split(EnergyGrid grid) {
+        grid.invalidate();
+
+        Map<EnergyNode, List<EnergyNode>> edges = new HashMap<>();
+        for (EnergyNode node : grid.nodes) {
+            edges.computeIfAbsent(node, k -> new ArrayList<>());
+            for (EnergyNode neighbor : node.getConnections().values()) {
+                if (MEMBERSHIP.get(neighbor) != grid) continue;
+                edges.get(node).add(neighbor);
+                edges.computeIfAbsent(neighbor, k -> new ArrayList<>()).add(node);
+            }
+        }
 
-                    toTransfer = event.getAmount();
+        List<Set<EnergyNode>> components = new ArrayList<>();
+        Set<EnergyNode> seen = new HashSet<>();
+        for (EnergyNode start : edges.keySet()) {
+            if (!seen.add(start)) continue;
 
-                    double extracted =
-                        source.extract(null, toTransfer, Action.EXECUTE);
+            Set<EnergyNode> component = new HashSet<>();
+            Queue<EnergyNode> queue = new ArrayDeque<>();
+            component.add(start);
+            queue.add(start);
+            while (!queue.isEmpty()) {
+                for (EnergyNode neighbor : edges.get(queue.poll())) {
+                    if (seen.add(neighbor)) {
+                        component.add(neighbor);
+                        queue.add(neighbor);
+                    }
+                }
+            }
+            components.add(component);
+        }
 
-                    double convertedInsert =
-                        source.getUnit().convert(extracted, sink.getUnit());
+        components.sort(Comparator.comparingInt(Set::size));
+        for (int i = 0; i < components.size(); i++) {
+            Set<EnergyNode> component = components.get(i);
+            boolean largest = i == components.size() - 1;
+            boolean registered = component.stream().anyMatch(NODES::contains);
+
+            if (largest && registered) break;
+            EnergyGrid target = registered ? new EnergyGrid() : null;
+
+            for (EnergyNode node : component) {
+                grid.remove(node);
+                if (target != null) {
+                    MEMBERSHIP.put(node, target);
+                    target.add(node);
+                } else {
+                    MEMBERSHIP.remove(node);
+                }
+            }
+            if (target != null) GRIDS.add(target);
+        }
 
-                    sink.insert(face, convertedInsert, Action.EXECUTE);
+        if (grid.nodes.isEmpty()) GRIDS.remove(grid);
+    }
 
-                    totalExtracted += extracted;
-                    markActive(sink);
+    /**
+     * Performs energy distribution across every grid.
+     * <p>
+     * On Folia each area of a grid is distributed on the region owning it, and
+     * only moves energy to sinks owned by that region.
+     * Elsewhere, grids consisting only of thread-safe nodes are distributed in
+     * parallel and the rest on the calling thread; the call returns once every
+     * grid has been processed.
+     */
+    public static void distribute() {
+        if (GRIDS.isEmpty()) return;
+
+        if (RegionalCollections.IS_FOLIA) {
+            for (EnergyGrid grid : GRIDS) {
+                if (grid.isSleeping()) continue;
+                List<EnergyGrid.Area> areas = grid.areas();
+                if (areas.isEmpty()) {
+                    grid.distribute();
+                    continue;
+                }
+                for (EnergyGrid.Area area : areas) {
+                    if (!area.scheduled.compareAndSet(false, true)) continue;
+
+                    AbyssalLib.SCHEDULER.schedule(() -> {
+                        try {
+                            grid.distribute(area);
+                        } finally {
+                            area.scheduled.set(false);
+                        }
+                    }).region(area.origin()).once();
                 }
             }
+            return;
+        }
 
-            if (totalExtracted > 0) {
-                markActive(source);
-            } else if (!(source instanceof EnergyConductor)) {
-                ACTIVE_NODES.remove(source);
+        List<EnergyGrid> parallel = new ArrayList<>();
+        for (EnergyGrid grid : GRIDS) {
+            if (grid.isSleeping()) continue;
+            if (grid.isThreadSafe()) {
+                parallel.add(grid);
+            } else {
+                grid.distribute();
             }
         }
+
+        if (parallel.isEmpty()) return;
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(parallel.size() - 1);
+        for (int i = 1; i < parallel.size(); i++) {
+            tasks.add(WORKERS.submit(parallel.get(i)::distribute));
+        }
+        parallel.getFirst().distribute();
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
     }
 
     /**
-     * Saves all nodes asynchronously to the database.
+     * Writes every node changed since the last save and deletes the rows of
+     * unregistered nodes.
      */
     public static void save() {
-        BatchQuery batch = DATABASE.executor()
-            .table("energy_nodes")
-            .batch("id", "json")
-            .replace();
+        if (DIRTY.isEmpty() && REMOVED.isEmpty()) return;
 
-        for (EnergyNode node : NODES) {
-            try {
-                String id = node.getClass().getName() + "@" + node.hashCode();
-                DataResult<JsonNode> res = EnergyNode.CODEC.encode(JsonOps.INSTANCE, node);
+        List<EnergyNode> dirty = new ArrayList<>();
+        for (EnergyNode node : DIRTY) {
+            if (DIRTY.remove(node)) dirty.add(node);
+        }
+        List<String> removed = new ArrayList<>();
+        for (String id : REMOVED) {
+            if (REMOVED.remove(id)) removed.add(id);
+        }
 
-                if (res.isError()) {
-                    AbyssalLib.getInstance().getLogger().warning("Failed to save energy node " + id + ": " + res.error().get());
-                    continue;
+        try {
+            DATABASE.transactionResult(executor -> {
+                for (String id : removed) {
+                    executor.table("energy_nodes").delete().where("id = ?", id).execute();
                 }
 
-                if (res.isPartial()) {
-                    res.warnings().forEach(w -> AbyssalLib.getInstance().getLogger().warning("Warning saving energy node " + id + ": " + w.message()));
-                }
+                BatchQuery batch = executor.table("energy_nodes")
+                    .batch("id", "json")
+                    .replace();
 
-                batch.add(id, res.getOrThrow().toString());
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        }
+                int count = 0;
+                for (EnergyNode node : dirty) {
+                    String id = IDS.get(node);
+                    if (id == null) continue;
+
+                    try {
+                        DataResult<JsonNode> res = EnergyNode.CODEC.encode(JsonOps.INSTANCE, node);
+
+                        if (res.isError()) {
+                            AbyssalLib.getInstance().getLogger().warning("Failed to save energy node " + id + ": " + res.error().get());
+                            continue;
+                        }
+
+                        if (res.isPartial()) {
+                            res.warnings().forEach(w -> AbyssalLib.getInstance().getLogger().warning("Warning saving energy node " + id + ": " + w.message()));
+                        }
 
-        batch.executeAsync().exceptionally(e -> {
+                        batch.add(id, res.getOrThrow().toString());
+                        count++;
+                    } catch (Exception e) {
+                        e.printStackTrace();
+                    }
+                }
+
+                if (count > 0) {
+                    batch.execute();
+                }
+                return count + removed.size();
+            });
+        } catch (RuntimeException e) {
+            dirty.forEach(EnergyNetwork::markDirty);
+            removed.forEach(id -> {
+                if (!BY_ID.containsKey(id)) REMOVED.add(id);
+            });
             AbyssalLib.getInstance().getLogger()
                 .severe("Failed to save energy network: " + e.getMessage());
-            return 0;
-        });
+        }
     }
 
     /**
      * Loads nodes from persistent storage.
+     * <p>
+     * Rows written under the old, unstable identifiers are re-keyed; duplicates
+     * of a position already loaded are treated as orphans and deleted.
      */
     public static void load() {
         DATABASE.executor().table("energy_nodes").selectAsync(rs -> {
+            String id = rs.getString("id");
             try {
                 String jsonStr = rs.getString("json");
                 JsonNode nodeJson = JSON_MAPPER.readTree(jsonStr);
@@ -284,21 +583,80 @@ public final class EnergyNetwork {
 
                 if (res.isError()) {
                     AbyssalLib.getInstance().getLogger().warning("Failed to load energy node: " + res.error().get());
-                    return null;
+                    return new StoredNode(id, null);
                 }
 
                 if (res.isPartial()) {
                     res.warnings().forEach(w -> AbyssalLib.getInstance().getLogger().warning("Warning loading energy node: " + w.message()));
                 }
 
-                return res.getOrThrow();
+                return new StoredNode(id, res.getOrThrow());
             } catch (Exception e) {
-                return null;
+                return new StoredNode(id, null);
             }
-        }).thenAccept(loadedNodes -> {
-            for (EnergyNode node : loadedNodes) {
-                if (node != null) register(node);
+        }).thenAccept(rows -> {
+            List<String> orphans = new ArrayList<>();
+
+            for (StoredNode row : rows) {
+                if (!LEGACY_ID.matcher(row.id).matches()) {
+                    if (row.node != null && !BY_ID.containsKey(row.id)) register(row.node, row.id);
+                    continue;
+                }
+
+                orphans.add(row.id);
+                if (row.node == null) continue;
+
+                String position = positionalId(row.node);
+                if (position != null && BY_ID.containsKey(position)) continue;
+
+                register(row.node);
+            }
+
+            if (orphans.isEmpty()) return;
+            try {
+                DATABASE.transactionResult(executor -> {
+                    for (String id : orphans) {
+                        executor.table("energy_nodes").delete().where("id = ?", id).execute();
+                    }
+                    return orphans.size();
+                });
+                AbyssalLib.getInstance().getLogger().info("Compacted " + orphans.size() + " legacy energy node rows.");
+            } catch (RuntimeException e) {
+                AbyssalLib.getInstance().getLogger().warning("Failed to compact energy node rows: " + e.getMessage());
             }
         });
     }
+
+    /**
+     * Assigns a new persistent identifier, preferring the node's position.
+     *
+     * @param node the node to identify
+     * @return the identifier
+     */
+    private static String assignId(EnergyNode node) {
+        String position = positionalId(node);
+        if (position != null && BY_ID.putIfAbsent(position, node) == null) return position;
+
+        String id = UUID.randomUUID().toString();
+        BY_ID.put(id, node);
+        return id;
+    }
+
+    /**
+     * @return the position-based identifier of a node, or null if it is not placed
+     */
+    private static @Nullable String positionalId(EnergyNode node) {
+        Location loc = node.getLocation();
+        if (loc == null || loc.getWorld() == null) return null;
+        return loc.getWorld().getName() + ":" + loc.getBlockX() + ":" + loc.getBlockY() + ":" + loc.getBlockZ();
+    }
+
+    /**
+     * A persisted row and the node decoded from it, if any.
+     *
+     * @param id   the stored identifier
+     * @param node the decoded node, or null if decoding failed
+     */
+    private record StoredNode(String id, @Nullable EnergyNode node) {
+    }
 }
\ No newline at end of file
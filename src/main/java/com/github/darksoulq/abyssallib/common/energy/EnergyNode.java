@@ -77,18 +77,42 @@ public interface EnergyNode {
 
     /**
      * Connects this node to another node.
+     * <p>
+     * The owning {@link EnergyGrid}s are merged as needed. Any node previously
+     * connected on either side is disconnected.
      */
     default void connect(@Nullable BlockFace side, EnergyNode other, @Nullable BlockFace otherSide) {
-        if (side != null) getConnections().put(side, other);
-        if (otherSide != null) other.getConnections().put(otherSide, this);
+        EnergyNode previous = side != null ? getConnections().put(side, other) : null;
+        EnergyNode otherPrevious = otherSide != null ? other.getConnections().put(otherSide, this) : null;
+
+        EnergyNetwork.connected(this, other);
+        if (previous != null && previous != other) EnergyNetwork.disconnected(this, previous);
+        if (otherPrevious != null && otherPrevious != this) EnergyNetwork.disconnected(other, otherPrevious);
     }
 
     /**
      * Disconnects this node from another node.
+     * <p>
+     * The owning {@link EnergyGrid} is split if the two nodes are no longer
+     * connected through any other path.
      */
     default void disconnect(@Nullable BlockFace side, EnergyNode other, @Nullable BlockFace otherSide) {
         if (side != null) getConnections().remove(side);
         if (otherSide != null) other.getConnections().remove(otherSide);
+        EnergyNetwork.disconnected(this, other);
+    }
+
+    /**
+     * Whether this node may be accessed off the server thread.
+     * <p>
+     * Grids made up solely of thread-safe nodes are distributed in parallel on
+     * non-Folia servers. Nodes that touch Bukkit state, or whose transfers fire
+     * events with listeners that do, must return {@code false}.
+     *
+     * @return true if energy can be moved through this node from any thread
+     */
+    default boolean isThreadSafe() {
+        return false;
     }
 
     /**
@@ -7,4 +7,5 @@ public final class DataFixers {
     public static final DataFixerRegistry FIXERS = new DataFixerRegistry(1);
 
     public static final Key STRUCTURE = FIXERS.registerFixer(Key.key(AbyssalLib.PLUGIN_ID, "structure"), 0, DataFixer.compose());
+    public static final Key BLOCK_ENTITY = FIXERS.registerFixer(Key.key(AbyssalLib.PLUGIN_ID, "block_entity"), 0, DataFixer.compose());
 }
@@ -304,6 +304,10 @@ public class ByteOps extends DynamicOps<byte[]> {
 
     /**
      * Attempts to decode a serialized map.
+     * <p>
+     * The returned map compares keys by content rather than identity, so lookups
+     * with freshly created keys (for example {@code map.get(createString("id"))})
+     * resolve as expected.
      *
      * @param input the encoded byte array
      * @return the decoded map, if the input contains a valid map
@@ -313,7 +317,7 @@ public class ByteOps extends DynamicOps<byte[]> {
         try {
             ByteBuffer buf = ByteBuffer.wrap(input);
             int size = buf.getInt();
-            Map<byte[], byte[]> result = new LinkedHashMap<>();
+            Map<byte[], byte[]> result = new TreeMap<>(Arrays::compare);
             for (int i = 0; i < size; i++) {
                 int klen = buf.getInt();
                 byte[] key = new byte[klen];
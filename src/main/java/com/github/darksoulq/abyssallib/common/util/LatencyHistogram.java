@@ -0,0 +1,141 @@
+package com.github.darksoulq.abyssallib.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of durations in nanoseconds.
+ * <p>
+ * Values are counted in log-linear buckets with four sub-buckets per power of
+ * two, so any reported percentile is within 25% of the recorded value while
+ * the histogram stays a fixed, small size regardless of the range recorded.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Number of sub-buckets each power of two is split into, as a power of two.
+     */
+    private static final int SUB_BITS = 2;
+
+    /**
+     * Number of sub-buckets each power of two is split into.
+     */
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    /**
+     * Total number of buckets needed to cover every non-negative long.
+     */
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a single duration.
+     *
+     * @param nanos The duration in nanoseconds, negative values are treated as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucket(value));
+        count.increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        total.reset();
+        max.reset();
+    }
+
+    /**
+     * Captures the current state of this histogram.
+     *
+     * @return An immutable summary of the recorded values.
+     */
+    public Snapshot snapshot() {
+        return combine(this);
+    }
+
+    /**
+     * Captures the combined state of several histograms, such as consecutive time windows.
+     *
+     * @param histograms The histograms to combine.
+     * @return An immutable summary of the values recorded in all of them.
+     */
+    public static Snapshot combine(LatencyHistogram... histograms) {
+        long[] counts = new long[BUCKETS];
+        long recorded = 0;
+        long sum = 0;
+        long largest = 0;
+        for (LatencyHistogram histogram : histograms) {
+            for (int i = 0; i < BUCKETS; i++) {
+                long bucket = histogram.buckets.get(i);
+                counts[i] += bucket;
+                recorded += bucket;
+            }
+            sum += histogram.total.sum();
+            largest = Math.max(largest, histogram.max.get());
+        }
+        return new Snapshot(recorded, sum, largest,
+            percentile(counts, recorded, 0.50),
+            percentile(counts, recorded, 0.99),
+            percentile(counts, recorded, 0.999));
+    }
+
+    private static long percentile(long[] counts, long recorded, double fraction) {
+        if (recorded == 0) return 0;
+        long target = (long) Math.ceil(recorded * fraction);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) return upperBound(i);
+        }
+        return upperBound(counts.length - 1);
+    }
+
+    private static int bucket(long value) {
+        if (value < SUB_COUNT) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+        return (exponent - SUB_BITS + 1) * SUB_COUNT + sub;
+    }
+
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_COUNT) return bucket;
+        int exponent = bucket / SUB_COUNT + SUB_BITS - 1;
+        int sub = bucket % SUB_COUNT;
+        long upper = ((long) (SUB_COUNT + sub + 1) << (exponent - SUB_BITS)) - 1;
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+
+    /**
+     * A point-in-time summary of a {@link LatencyHistogram}.
+     *
+     * @param count The number of recorded values.
+     * @param total The sum of all recorded values in nanoseconds.
+     * @param max   The largest recorded value in nanoseconds.
+     * @param p50   The median in nanoseconds.
+     * @param p99   The 99th percentile in nanoseconds.
+     * @param p999  The 99.9th percentile in nanoseconds.
+     */
+    public record Snapshot(long count, long total, long max, long p50, long p99, long p999) {
+
+        /**
+         * @return The mean of all recorded values in nanoseconds, or zero if nothing was recorded.
+         */
+        public long mean() {
+            return count == 0 ? 0 : total / count;
+        }
+    }
+}
\ No newline at end of file
@@ -18,5 +18,6 @@ public class InternalCommand extends BaseCommand {
         addSubcommand(new ReloadCommand());
         addSubcommand(new ContentCommand());
         addSubcommand(new PermissionsCommand());
+        addSubcommand(new ProfileCommand());
     }
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.github.darksoulq.abyssallib.server.command.internal;
+
+import com.github.darksoulq.abyssallib.common.util.LatencyHistogram;
+import com.github.darksoulq.abyssallib.server.command.BaseCommand;
+import com.github.darksoulq.abyssallib.server.command.CommandResult;
+import com.github.darksoulq.abyssallib.server.command.DefaultConditions;
+import com.github.darksoulq.abyssallib.server.packet.PacketMetrics;
+import com.github.darksoulq.abyssallib.server.permission.internal.PluginPermissions;
+import com.github.darksoulq.abyssallib.server.scheduler.RealtimeTaskDispatcher;
+import com.github.darksoulq.abyssallib.server.scheduler.TaskMetrics;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.Commands;
+
+import java.util.List;
+
+public class ProfileCommand extends BaseCommand {
+
+    private static final int SHOWN_ENTRIES = 10;
+    private static final int SHOWN_CONTEXTS = 5;
+    private static final int SHOWN_TASKS = 5;
+
+    public ProfileCommand() {
+        super("profile");
+        setRequirement(DefaultConditions.hasPerm(PluginPermissions.PROFILE));
+
+        LiteralArgumentBuilder<CommandSourceStack> packets = Commands.literal("packets");
+        LiteralArgumentBuilder<CommandSourceStack> start = Commands.literal("start");
+        LiteralArgumentBuilder<CommandSourceStack> stop = Commands.literal("stop");
+        LiteralArgumentBuilder<CommandSourceStack> reset = Commands.literal("reset");
+
+        addSyntax(ProfileCommand::showPackets, packets);
+        addSyntax(ctx -> {
+            PacketMetrics.setEnabled(true);
+            CommandUtil.reply(ctx, "<green>Packet profiling started</green>");
+            return CommandResult.success();
+        }, packets, start);
+        addSyntax(ctx -> {
+            PacketMetrics.setEnabled(false);
+            CommandUtil.reply(ctx, "<yellow>Packet profiling stopped</yellow>");
+            return CommandResult.success();
+        }, packets, stop);
+        addSyntax(ctx -> {
+            PacketMetrics.reset();
+            CommandUtil.reply(ctx, "<yellow>Packet profile cleared</yellow>");
+            return CommandResult.success();
+        }, packets, reset);
+
+        LiteralArgumentBuilder<CommandSourceStack> scheduler = Commands.literal("scheduler");
+        addSyntax(ProfileCommand::showScheduler, scheduler);
+        addSyntax(ctx -> {
+            TaskMetrics.setEnabled(true);
+            CommandUtil.reply(ctx, "<green>Scheduler profiling started</green>");
+            return CommandResult.success();
+        }, scheduler, start);
+        addSyntax(ctx -> {
+            TaskMetrics.setEnabled(false);
+            CommandUtil.reply(ctx, "<yellow>Scheduler profiling stopped</yellow>");
+            return CommandResult.success();
+        }, scheduler, stop);
+        addSyntax(ctx -> {
+            TaskMetrics.reset();
+            CommandUtil.reply(ctx, "<yellow>Scheduler profile cleared</yellow>");
+            return CommandResult.success();
+        }, scheduler, reset);
+    }
+
+    private static CommandResult showPackets(CommandContext<CommandSourceStack> ctx) {
+        PacketMetrics.Snapshot snapshot = PacketMetrics.snapshot();
+        List<PacketMetrics.PacketStats> packets = snapshot.packets();
+        if (packets.isEmpty()) {
+            CommandUtil.reply(ctx, snapshot.enabled()
+                ? "<gray>No packets recorded yet</gray>"
+                : "<gray>Packet profiling is off, use <white>/abyssallib profile packets start</white></gray>");
+            return CommandResult.success();
+        }
+
+        CommandUtil.reply(ctx, "<gold>Packet profile</gold> <gray>(" + formatMillis(snapshot.elapsedNanos()) + " recorded"
+            + (snapshot.enabled() ? "" : ", stopped") + ")</gray>");
+        for (int i = 0; i < Math.min(SHOWN_ENTRIES, packets.size()); i++) {
+            PacketMetrics.PacketStats stats = packets.get(i);
+            CommandUtil.reply(ctx, "<white>" + stats.type().getSimpleName() + "</white> <gray>"
+                + (stats.direction() == PacketMetrics.Direction.OUTBOUND ? "out" : "in")
+                + " x" + stats.count() + " total " + formatMillis(stats.totalNanos())
+                + " | translate " + formatTiming(stats.translation())
+                + " | listeners " + formatTiming(stats.listeners())
+                + " | events " + formatTiming(stats.events()) + "</gray>");
+        }
+        return CommandResult.success();
+    }
+
+    private static CommandResult showScheduler(CommandContext<CommandSourceStack> ctx) {
+        TaskMetrics.Snapshot snapshot = TaskMetrics.snapshot();
+        List<TaskMetrics.ContextStats> contexts = snapshot.contexts();
+        if (contexts.isEmpty()) {
+            CommandUtil.reply(ctx, snapshot.enabled()
+                ? "<gray>No tasks recorded yet</gray>"
+                : "<gray>Scheduler profiling is off, use <white>/abyssallib profile scheduler start</white></gray>");
+        } else {
+            CommandUtil.reply(ctx, "<gold>Scheduler profile</gold> <gray>(" + formatMillis(snapshot.elapsedNanos()) + " recorded"
+                + (snapshot.enabled() ? "" : ", stopped") + ")</gray>");
+            for (int i = 0; i < Math.min(SHOWN_CONTEXTS, contexts.size()); i++) {
+                TaskMetrics.ContextStats context = contexts.get(i);
+                CommandUtil.reply(ctx, "<yellow>" + context.context() + "</yellow> <gray>total " + formatMillis(context.totalNanos()) + "</gray>");
+                List<TaskMetrics.TaskStats> tasks = context.tasks();
+                for (int j = 0; j < Math.min(SHOWN_TASKS, tasks.size()); j++) {
+                    TaskMetrics.TaskStats stats = tasks.get(j);
+                    CommandUtil.reply(ctx, " <white>" + stats.plugin() + "/" + stats.label() + "</white> <gray>"
+                        + (stats.callSite() == null ? "" : "(" + stats.callSite() + ") ")
+                        + "x" + stats.timings().count() + " total " + formatMillis(stats.timings().total())
+                        + " | " + formatTiming(stats.timings())
+                        + (stats.slowRuns() > 0 ? " | <red>" + stats.slowRuns() + " slow</red>" : "") + "</gray>");
+                }
+            }
+        }
+
+        for (RealtimeTaskDispatcher.PoolStats pool : RealtimeTaskDispatcher.stats()) {
+            CommandUtil.reply(ctx, "<aqua>pool " + pool.name() + "</aqua> <gray>" + pool.mode().name().toLowerCase()
+                + " queued " + pool.queued() + " completed " + pool.completed()
+                + " | wait " + formatTiming(pool.wait()) + "</gray>");
+        }
+        return CommandResult.success();
+    }
+
+    static String formatTiming(LatencyHistogram.Snapshot timing) {
+        if (timing.count() == 0) return "-";
+        return "p50 " + formatMicros(timing.p50()) + " p99 " + formatMicros(timing.p99()) + " max " + formatMicros(timing.max());
+    }
+
+    static String formatMicros(long nanos) {
+        return String.format("%.1fµs", nanos / 1_000.0);
+    }
+
+    static String formatMillis(long nanos) {
+        return String.format("%.1fms", nanos / 1_000_000.0);
+    }
+}
\ No newline at end of file
@@ -4,20 +4,24 @@ import org.bukkit.Bukkit;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
 import org.bukkit.plugin.Plugin;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
+import java.lang.invoke.*;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 /**
  * A lightweight event bus for registering Bukkit event handlers using the {@link SubscribeEvent} format.
  * <p>
  * This class scans listener objects for annotated methods and registers them with Bukkit's event system.
- * It uses {@link MethodHandle} for fast invocation and supports event priority and cancel-ignoring behavior.
+ * Each handler is compiled into a dedicated {@link Consumer} through {@link LambdaMetafactory}, so dispatch
+ * is a direct call the JIT can inline. If that is not possible, a {@link MethodHandle} invoked with an exact
+ * signature is used instead. Event priority and cancel-ignoring behavior are supported.
  */
 public class EventBus {
     private final Plugin plugin;
@@ -63,32 +67,113 @@ public class EventBus {
 
             method.setAccessible(true);
 
-            MethodHandle handle;
-            try {
-                handle = MethodHandles.lookup().unreflect(method).bindTo(listenerObject);
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException("Could not create method handle for " + method, e);
-            }
+            Consumer<Event> invoker = createInvoker(listenerObject, method, eventClass);
+            boolean filter = !declaresHandlerList(eventClass);
 
             Bukkit.getPluginManager().registerEvent(
                 (Class<? extends Event>) eventClass,
                 dynamicListener,
                 priority,
-                (listener, event) -> {
-                    if (eventClass.isAssignableFrom(event.getClass())) {
-                        try {
-                            handle.invokeWithArguments(event);
-                        } catch (Throwable t) {
-                            plugin.getLogger().log(Level.SEVERE, "Failed to invoke event handler", t);
-                        }
-                    }
-                },
+                new HandlerExecutor(invoker, eventClass, filter, plugin),
                 plugin,
                 ignoreCancelled
             );
         }
     }
 
+    /**
+     * Creates a typed invoker for a handler method.
+     * <p>
+     * The invoker is spun through {@link LambdaMetafactory} in the listener's own lookup. When the listener
+     * class cannot be accessed that way, an exact-typed {@link MethodHandle} is used as a fallback.
+     *
+     * @param listenerObject The object declaring the handler.
+     * @param method         The handler method.
+     * @param eventClass     The event type accepted by the handler.
+     * @return An invoker that calls the handler with an event.
+     */
+    @SuppressWarnings("unchecked")
+    static Consumer<Event> createInvoker(Object listenerObject, Method method, Class<?> eventClass) {
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Could not create method handle for " + method, e);
+        }
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle target = lookup.unreflect(method);
+            MethodType factoryType = isStatic
+                ? MethodType.methodType(Consumer.class)
+                : MethodType.methodType(Consumer.class, method.getDeclaringClass());
+
+            CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                "accept",
+                factoryType,
+                MethodType.methodType(void.class, Object.class),
+                target,
+                MethodType.methodType(void.class, eventClass)
+            );
+            return isStatic
+                ? (Consumer<Event>) site.getTarget().invoke()
+                : (Consumer<Event>) site.getTarget().invoke(listenerObject);
+        } catch (Throwable ignored) {
+        }
+
+        MethodHandle exact = (isStatic ? handle : handle.bindTo(listenerObject))
+            .asType(MethodType.methodType(void.class, Event.class));
+        return event -> {
+            try {
+                exact.invokeExact(event);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        };
+    }
+
+    /**
+     * Checks whether an event class owns its handler list.
+     * <p>
+     * Such a class only ever receives instances of itself, so the per-dispatch type check can be skipped.
+     * Events inheriting their handler list from a parent also receive sibling types and must be filtered.
+     *
+     * @param eventClass The event class to check.
+     * @return True if the class declares {@code getHandlerList()} itself.
+     */
+    private static boolean declaresHandlerList(Class<?> eventClass) {
+        try {
+            eventClass.getDeclaredMethod("getHandlerList");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Executor dispatching events to a single generated handler invoker.
+     *
+     * @param invoker    The typed handler invoker.
+     * @param eventClass The event type accepted by the handler.
+     * @param filter     Whether events must be type-checked before dispatch.
+     * @param plugin     The plugin used for error reporting.
+     */
+    private record HandlerExecutor(Consumer<Event> invoker, Class<?> eventClass, boolean filter, Plugin plugin) implements EventExecutor {
+        @Override
+        public void execute(Listener listener, Event event) {
+            if (filter && !eventClass.isInstance(event)) return;
+            try {
+                invoker.accept(event);
+            } catch (Throwable t) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to invoke event handler", t);
+            }
+        }
+    }
+
     /**
      * Posts a Bukkit event to all registered listeners.
      *
@@ -0,0 +1,98 @@
+package com.github.darksoulq.abyssallib.server.event.custom.energy;
+
+import com.github.darksoulq.abyssallib.common.energy.EnergyGrid;
+import com.github.darksoulq.abyssallib.common.energy.EnergyNode;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Fired once per tick for every {@link EnergyGrid} that moved energy during distribution.
+ * This is the aggregated counterpart of {@link EnergyNetworkTransferEvent}; it is only
+ * constructed while at least one listener is registered.
+ */
+public final class EnergyGridTransferEvent extends Event {
+
+    /**
+     * The list of handlers for this event.
+     */
+    private static final HandlerList HANDLERS = new HandlerList();
+    /**
+     * The grid that was distributed.
+     */
+    private final EnergyGrid grid;
+    /**
+     * The number of individual source to sink transfers.
+     */
+    private final int transfers;
+    /**
+     * The energy extracted from each source, in the source's unit.
+     */
+    private final Map<EnergyNode, Double> extracted;
+    /**
+     * The energy inserted into each sink, in the sink's unit.
+     */
+    private final Map<EnergyNode, Double> received;
+
+    /**
+     * Constructs a new EnergyGridTransferEvent.
+     *
+     * @param grid      The {@link EnergyGrid} that was distributed.
+     * @param transfers The number of source to sink transfers performed.
+     * @param extracted The energy extracted per source, in each source's unit.
+     * @param received  The energy inserted per sink, in each sink's unit.
+     * @param async     Whether the event is being fired asynchronously.
+     */
+    public EnergyGridTransferEvent(EnergyGrid grid, int transfers, Map<EnergyNode, Double> extracted, Map<EnergyNode, Double> received, boolean async) {
+        super(async);
+        this.grid = grid;
+        this.transfers = transfers;
+        this.extracted = Collections.unmodifiableMap(extracted);
+        this.received = Collections.unmodifiableMap(received);
+    }
+
+    /**
+     * @return The {@link EnergyGrid} that was distributed.
+     */
+    public EnergyGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * @return The number of source to sink transfers performed this tick.
+     */
+    public int getTransfers() {
+        return transfers;
+    }
+
+    /**
+     * @return The energy extracted from each source, in the source's unit.
+     */
+    public Map<EnergyNode, Double> getExtracted() {
+        return extracted;
+    }
+
+    /**
+     * @return The energy inserted into each sink, in the sink's unit.
+     */
+    public Map<EnergyNode, Double> getReceived() {
+        return received;
+    }
+
+    /**
+     * @return The specific {@link HandlerList} for this event.
+     */
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    /**
+     * @return The static {@link HandlerList} required for Bukkit events.
+     */
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
\ No newline at end of file
@@ -9,6 +9,9 @@ import org.bukkit.event.HandlerList;
 /**
  * Fired when energy is being transferred from one {@link EnergyNode} to another within the network.
  * This event allows developers to modify the amount being transferred or cancel the transfer entirely.
+ * <p>
+ * Per-pair events are only constructed while at least one listener is registered; listeners that
+ * only need totals should prefer {@link EnergyGridTransferEvent}, which is fired once per grid and tick.
  */
 public final class EnergyNetworkTransferEvent extends Event implements Cancellable {
 
@@ -5,9 +5,11 @@ import com.github.darksoulq.abyssallib.server.event.SubscribeEvent;
 import com.github.darksoulq.abyssallib.server.event.custom.entity.EntityAttributeChangeEvent;
 import com.github.darksoulq.abyssallib.server.event.custom.entity.PlayerStatisticChangeEvent;
 import com.github.darksoulq.abyssallib.server.event.custom.server.PacketSendEvent;
+import com.github.darksoulq.abyssallib.server.packet.PacketListeners;
 import com.github.darksoulq.abyssallib.server.registry.Registries;
 import com.github.darksoulq.abyssallib.world.advancement.Advancement;
 import com.github.darksoulq.abyssallib.world.advancement.criterion.AdvancementCriterion;
+import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientboundContainerSetContentPacket;
 import net.minecraft.network.protocol.game.ClientboundContainerSetDataPacket;
 import net.minecraft.network.protocol.game.ClientboundContainerSetSlotPacket;
@@ -36,11 +38,17 @@ public class AdvancementEvents {
 
     private final List<Advancement> globalAdvancements = new CopyOnWriteArrayList<>();
 
-    private final Set<UUID> pendingInventoryChecks = ConcurrentHashMap.newKeySet();
     private final Map<UUID, Long> lastMoveChecks = new ConcurrentHashMap<>();
 
+    private final Set<UUID> pendingChecks = ConcurrentHashMap.newKeySet();
+
     public AdvancementEvents() {
         buildCache();
+
+        PacketListeners.OUTGOING.register(ClientboundContainerSetSlotPacket.class, this::onInventoryUpdate);
+        PacketListeners.OUTGOING.register(ClientboundContainerSetContentPacket.class, this::onInventoryUpdate);
+        PacketListeners.OUTGOING.register(ClientboundSetPlayerInventoryPacket.class, this::onInventoryUpdate);
+        PacketListeners.OUTGOING.register(ClientboundContainerSetDataPacket.class, this::onInventoryUpdate);
     }
 
     public void buildCache() {
@@ -67,25 +75,18 @@ public class AdvancementEvents {
         }
     }
 
-    @SubscribeEvent(ignoreCancelled = false)
-    public void onInventoryUpdate(PacketSendEvent event) {
-        Object packet = event.getPacket();
-        if (packet instanceof ClientboundContainerSetSlotPacket
-            || packet instanceof ClientboundContainerSetContentPacket
-            || packet instanceof ClientboundSetPlayerInventoryPacket
-            || packet instanceof ClientboundContainerSetDataPacket) {
-
-            Player player = event.getPlayer();
+    private Packet<?> onInventoryUpdate(Player player, Packet<?> packet) {
+        UUID id = player.getUniqueId();
+        if (pendingChecks.contains(id) || !pendingChecks.add(id)) return packet;
 
-            if (pendingInventoryChecks.add(player.getUniqueId())) {
-                AbyssalLib.SCHEDULER.schedule(() -> {
-                    pendingInventoryChecks.remove(player.getUniqueId());
-                    if (player.isOnline()) {
-                        evaluateSpecific(player, event);
-                    }
-                }).once();
+        PacketSendEvent event = new PacketSendEvent(player, packet, true);
+        AbyssalLib.SCHEDULER.schedule(() -> {
+            pendingChecks.remove(id);
+            if (player.isOnline()) {
+                evaluateSpecific(player, event);
             }
-        }
+        }).once().completion().whenComplete((ignored, error) -> pendingChecks.remove(id));
+        return packet;
     }
 
     @SubscribeEvent
@@ -146,7 +147,6 @@ public class AdvancementEvents {
     @SubscribeEvent
     public void onJoin(PlayerJoinEvent event) {
         lastMoveChecks.remove(event.getPlayer().getUniqueId());
-        pendingInventoryChecks.remove(event.getPlayer().getUniqueId());
 
         evaluateSpecific(event.getPlayer(), event);
         evaluateGlobal(event.getPlayer(), event);
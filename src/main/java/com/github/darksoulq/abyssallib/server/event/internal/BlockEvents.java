@@ -89,21 +89,12 @@ public class BlockEvents {
 
     @SubscribeEvent(ignoreCancelled = false)
     public void onChunkLoad(ChunkLoadEvent event) {
-        if (event.isNewChunk()) return;
-        List<CustomBlock> blocks = BlockManager.getBlocksInChunk(event.getChunk());
-        if (blocks.isEmpty()) return;
-        for (CustomBlock block : blocks) {
-            block.onLoad();
-        }
+        BlockManager.loadChunk(event.getChunk(), event.isNewChunk());
     }
 
     @SubscribeEvent(ignoreCancelled = false)
     public void onChunkUnload(ChunkUnloadEvent event) {
-        List<CustomBlock> blocks = BlockManager.getBlocksInChunk(event.getChunk());
-        if (blocks.isEmpty()) return;
-        for (CustomBlock block : blocks) {
-            block.onUnLoad();
-        }
+        BlockManager.unloadChunk(event.getChunk());
     }
 
     @SubscribeEvent(ignoreCancelled = false)
@@ -276,7 +267,8 @@ public class BlockEvents {
     public void onEntityMove(EntityMoveEvent event) {
         if (!event.hasChangedBlock()) return;
 
-        CustomBlock block = CustomBlock.resolve(event.getTo().clone().add(0, -1, 0).getBlock());
+        Location to = event.getTo();
+        CustomBlock block = BlockManager.get(to.getWorld(), to.getBlockX(), to.getBlockY() - 1, to.getBlockZ());
         if (block == null) return;
         if (event.getEntity().getFallDistance() > 1) {
             block.onLanded(event.getEntity());
@@ -289,7 +281,8 @@ public class BlockEvents {
     public void onPlayerMove(PlayerMoveEvent event) {
         if (!event.hasChangedBlock()) return;
 
-        CustomBlock block = CustomBlock.resolve(event.getTo().clone().add(0, -1, 0).getBlock());
+        Location to = event.getTo();
+        CustomBlock block = BlockManager.get(to.getWorld(), to.getBlockX(), to.getBlockY() - 1, to.getBlockZ());
         if (block == null) return;
         if (event.getPlayer().getFallDistance() > 1) {
             block.onLanded(event.getPlayer());
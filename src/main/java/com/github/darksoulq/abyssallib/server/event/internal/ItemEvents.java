@@ -74,13 +74,18 @@ public class ItemEvents {
     @SubscribeEvent(ignoreCancelled = false)
     public void onPlayerQuit(PlayerQuitEvent event) {
         ItemTicker.remove(event.getPlayer());
+        ItemPacketModifier.clearState(event.getPlayer());
+    }
+
+    @SubscribeEvent(ignoreCancelled = false)
+    public void onLocaleChange(PlayerLocaleChangeEvent event) {
+        ItemPacketModifier.refresh(event.getPlayer());
     }
 
     @SubscribeEvent(ignoreCancelled = false)
     public void onGameModeChange(PlayerGameModeChangeEvent event) {
         Player player = event.getPlayer();
         AbyssalLib.SCHEDULER.schedule(() -> {
-            ItemPacketModifier.clearState(player);
             ItemTicker.update(player);
             player.updateInventory();
         }).after(1, Clock.TICKS);
@@ -290,7 +295,7 @@ public class ItemEvents {
         }
         if (isCustom) return;
         for (ItemStack item : contents) {
-            if (Item.resolve(item) != null) {
+            if (Item.idOf(item) != null) {
                 inventory.setResult(null);
                 return;
             }
@@ -315,7 +320,7 @@ public class ItemEvents {
         }
         if (isCustom) return;
 
-        if (Item.resolve(a) != null || Item.resolve(b) != null || Item.resolve(c) != null) {
+        if (Item.idOf(a) != null || Item.idOf(b) != null || Item.idOf(c) != null) {
             inventory.setResult(null);
         }
     }
@@ -329,7 +334,7 @@ public class ItemEvents {
         FurnaceInventory inv = (FurnaceInventory) ((Container) furnace).getInventory();
         ItemStack input = inv.getSmelting();
 
-        if (Item.resolve(input) != null || Item.resolve(source) != null) {
+        if (Item.idOf(input) != null || Item.idOf(source) != null) {
             event.setCancelled(true);
         }
     }
@@ -349,7 +354,7 @@ public class ItemEvents {
         }
         if (isCustom) return;
 
-        if (Item.resolve(a) != null) {
+        if (Item.idOf(a) != null) {
             event.setCancelled(true);
         }
     }
@@ -360,14 +365,14 @@ public class ItemEvents {
         if (view.getTopInventory().getType() != InventoryType.LOOM) return;
         ItemStack result = event.getResult();
         if (result == null) return;
-        if (Item.resolve(result) != null) return;
+        if (Item.idOf(result) != null) return;
 
         Inventory inv = view.getTopInventory();
         ItemStack base = inv.getItem(0);
         ItemStack dye = inv.getItem(1);
         ItemStack pattern = inv.getItem(2);
 
-        if (Item.resolve(base) != null || Item.resolve(dye) != null || Item.resolve(pattern) != null) {
+        if (Item.idOf(base) != null || Item.idOf(dye) != null || Item.idOf(pattern) != null) {
             event.setResult(null);
         }
     }
@@ -7,13 +7,10 @@ import com.github.darksoulq.abyssallib.common.util.Try;
 import com.github.darksoulq.abyssallib.server.command.CommandBus;
 import com.github.darksoulq.abyssallib.server.command.internal.InternalCommand;
 import com.github.darksoulq.abyssallib.server.event.SubscribeEvent;
-import com.github.darksoulq.abyssallib.server.event.custom.server.PacketReceiveEvent;
-import com.github.darksoulq.abyssallib.server.event.custom.server.PacketSendEvent;
 import com.github.darksoulq.abyssallib.server.registry.Registries;
 import com.github.darksoulq.abyssallib.server.scheduler.Clock;
 import com.github.darksoulq.abyssallib.server.scoreboard.internal.PlayerSidebarManager;
 import com.github.darksoulq.abyssallib.server.translation.ServerTranslator;
-import com.github.darksoulq.abyssallib.server.translation.internal.ItemPacketModifier;
 import com.github.darksoulq.abyssallib.server.util.Integrations;
 import com.github.darksoulq.abyssallib.world.advancement.Advancement;
 import com.github.darksoulq.abyssallib.world.advancement.AdvancementLoader;
@@ -36,7 +33,6 @@ import net.minecraft.advancements.AdvancementHolder;
 import net.minecraft.advancements.AdvancementNode;
 import net.minecraft.advancements.AdvancementTree;
 import net.minecraft.advancements.TreeNodePosition;
-import net.minecraft.network.protocol.Packet;
 import net.minecraft.resources.Identifier;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.ServerAdvancementManager;
@@ -102,28 +98,6 @@ public class ServerEvents {
         }
     }
 
-    @SubscribeEvent
-    public void onPacketSend(PacketSendEvent event) {
-        if (event.getPlayer() == null) return;
-        Packet<?> original = event.getPacket();
-        Packet<?> translated = ItemPacketModifier.processSend(original, event.getPlayer());
-
-        if (original != translated) {
-            event.setPacket(translated);
-        }
-    }
-
-    @SubscribeEvent
-    public void onPacketReceive(PacketReceiveEvent event) {
-        if (event.getPlayer() == null) return;
-        Packet<?> original = event.getPacket();
-        Packet<?> unTranslated = ItemPacketModifier.processReceive(original, event.getPlayer());
-
-        if (original != unTranslated) {
-            event.setPacket(unTranslated);
-        }
-    }
-
     @SubscribeEvent
     public void onLoot(LootGenerateEvent e) {
         String key = e.getLootTable().getKey().toString();
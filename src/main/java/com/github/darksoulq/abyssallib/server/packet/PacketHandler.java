@@ -0,0 +1,27 @@
+package com.github.darksoulq.abyssallib.server.packet;
+
+import net.minecraft.network.protocol.Packet;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A typed listener for a single packet class, registered through {@link PacketListeners}.
+ * <p>
+ * Handlers are invoked directly on the player's Netty event loop, so they must be
+ * thread-safe and must not block or access world state.
+ *
+ * @param <P> The packet type handled.
+ */
+@FunctionalInterface
+public interface PacketHandler<P extends Packet<?>> {
+
+    /**
+     * Handles a packet passing through the player's connection.
+     *
+     * @param player The player owning the connection.
+     * @param packet The packet being sent or received.
+     * @return The packet to forward, which may be a replacement, or {@code null} to drop it.
+     */
+    @Nullable Packet<?> handle(@NotNull Player player, @NotNull P packet);
+}
\ No newline at end of file
@@ -22,7 +22,9 @@ import org.jetbrains.annotations.NotNull;
  * Manages the injection of Netty handlers into the player's network pipeline.
  * <p>
  * By injecting a {@link ChannelDuplexHandler}, the system can intercept raw
- * packets and fire {@link PacketReceiveEvent} or {@link PacketSendEvent}.
+ * packets, pass them to the typed {@link PacketListeners} and fire
+ * {@link PacketReceiveEvent} or {@link PacketSendEvent} when those events have listeners.
+ * The cost of each stage is recorded in {@link PacketMetrics} while it is enabled.
  */
 public final class PacketInterceptor {
 
@@ -52,14 +54,28 @@ public final class PacketInterceptor {
             public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
                 if (msg instanceof Packet<?> packet) {
                     try {
-                        Packet<?> processed = ItemPacketModifier.processReceive(packet, player);
-                        Packet<?> result = processed;
+                        boolean profiling = PacketMetrics.isEnabled();
+                        long start = profiling ? System.nanoTime() : 0;
+                        Packet<?> translated = ItemPacketModifier.processReceive(packet, player);
+                        long translatedAt = profiling ? System.nanoTime() : 0;
+                        Packet<?> processed = PacketListeners.INCOMING.dispatch(player, translated);
+                        long dispatchedAt = profiling ? System.nanoTime() : 0;
+                        long events = -1;
 
-                        if (PacketReceiveEvent.getHandlerList().getRegisteredListeners().length > 0) {
+                        Packet<?> result = processed;
+                        boolean cancelled = processed == null;
+                        if (!cancelled && PacketReceiveEvent.getHandlerList().getRegisteredListeners().length > 0) {
                             PacketReceiveEvent event = EventBus.post(new PacketReceiveEvent(player, processed, true));
-                            if (event.isCancelled()) return;
+                            if (profiling) events = System.nanoTime() - dispatchedAt;
+                            cancelled = event.isCancelled();
                             result = event.getPacket();
                         }
+
+                        if (profiling) {
+                            PacketMetrics.record(PacketMetrics.Direction.INBOUND, packet.getClass(),
+                                translatedAt - start, dispatchedAt - translatedAt, events);
+                        }
+                        if (cancelled) return;
                         super.channelRead(ctx, result);
                     } catch (Exception e) {
                         AbyssalLib.getInstance().getLogger().warning("Error processing incoming packet: " + e.getMessage());
@@ -74,18 +90,32 @@ public final class PacketInterceptor {
             public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
                 if (msg instanceof Packet<?> packet) {
                     try {
-                        Packet<?> processed = ItemPacketModifier.processSend(packet, player);
-                        Packet<?> result = processed;
+                        boolean profiling = PacketMetrics.isEnabled();
+                        long start = profiling ? System.nanoTime() : 0;
+                        Packet<?> translated = ItemPacketModifier.processSend(packet, player);
+                        long translatedAt = profiling ? System.nanoTime() : 0;
+                        Packet<?> processed = PacketListeners.OUTGOING.dispatch(player, translated);
+                        long dispatchedAt = profiling ? System.nanoTime() : 0;
+                        long events = -1;
 
-                        if (PacketSendEvent.getHandlerList().getRegisteredListeners().length > 0) {
+                        Packet<?> result = processed;
+                        boolean cancelled = processed == null;
+                        if (!cancelled && PacketSendEvent.getHandlerList().getRegisteredListeners().length > 0) {
                             PacketSendEvent event = EventBus.post(new PacketSendEvent(player, processed, true));
-                            if (event.isCancelled()) {
-                                promise.setSuccess();
-                                return;
-                            }
+                            if (profiling) events = System.nanoTime() - dispatchedAt;
+                            cancelled = event.isCancelled();
                             result = event.getPacket();
                         }
 
+                        if (profiling) {
+                            PacketMetrics.record(PacketMetrics.Direction.OUTBOUND, packet.getClass(),
+                                translatedAt - start, dispatchedAt - translatedAt, events);
+                        }
+                        if (cancelled) {
+                            promise.setSuccess();
+                            return;
+                        }
+
                         if (result == null) {
                             connection.disconnect(PaperAdventure.asVanilla(TextUtil.parse("<red>Invalid packet modification</red>")));
                             return;
@@ -0,0 +1,132 @@
+package com.github.darksoulq.abyssallib.server.packet;
+
+import com.github.darksoulq.abyssallib.AbyssalLib;
+import net.minecraft.network.protocol.Packet;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of typed packet listeners invoked directly by the {@link PacketInterceptor}.
+ * <p>
+ * Unlike {@link com.github.darksoulq.abyssallib.server.event.custom.server.PacketSendEvent} and
+ * {@link com.github.darksoulq.abyssallib.server.event.custom.server.PacketReceiveEvent}, no event
+ * object is created and Bukkit's event system is not involved. Handlers are looked up by the
+ * concrete packet class, so packet types nobody subscribes to cost a single map lookup.
+ * <p>
+ * A handler registered for a class also receives subclasses and implementations of it.
+ */
+public final class PacketListeners {
+
+    /**
+     * Listeners for packets sent from the server to clients.
+     */
+    public static final PacketListeners OUTGOING = new PacketListeners();
+
+    /**
+     * Listeners for packets received from clients.
+     */
+    public static final PacketListeners INCOMING = new PacketListeners();
+
+    /**
+     * Shared empty handler array for packet classes without listeners.
+     */
+    private static final PacketHandler<?>[] NONE = new PacketHandler<?>[0];
+
+    /**
+     * Handlers by the class they were registered for.
+     */
+    private final Map<Class<?>, List<PacketHandler<?>>> registered = new ConcurrentHashMap<>();
+
+    /**
+     * Handlers applicable to each concrete packet class, resolved on first use.
+     */
+    private volatile Map<Class<?>, PacketHandler<?>[]> resolved = new ConcurrentHashMap<>();
+
+    private PacketListeners() {
+    }
+
+    /**
+     * Registers a handler for a packet class.
+     *
+     * @param type    The packet class to listen for.
+     * @param handler The handler to invoke.
+     * @param <P>     The packet type.
+     */
+    public synchronized <P extends Packet<?>> void register(@NotNull Class<P> type, @NotNull PacketHandler<? super P> handler) {
+        registered.computeIfAbsent(type, k -> new ArrayList<>()).add(handler);
+        resolved = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Removes a previously registered handler.
+     *
+     * @param type    The packet class the handler was registered for.
+     * @param handler The handler to remove.
+     * @return True if the handler was registered.
+     */
+    public synchronized boolean unregister(@NotNull Class<?> type, @NotNull PacketHandler<?> handler) {
+        List<PacketHandler<?>> handlers = registered.get(type);
+        if (handlers == null || !handlers.remove(handler)) return false;
+
+        if (handlers.isEmpty()) registered.remove(type);
+        resolved = new ConcurrentHashMap<>();
+        return true;
+    }
+
+    /**
+     * Checks whether any handler applies to a packet class.
+     *
+     * @param type The concrete packet class.
+     * @return True if at least one handler would be invoked.
+     */
+    public boolean hasListeners(@NotNull Class<?> type) {
+        return !registered.isEmpty() && handlers(type).length > 0;
+    }
+
+    /**
+     * Passes a packet through every applicable handler. Handlers registered for
+     * the same class run in registration order.
+     *
+     * @param player The player owning the connection.
+     * @param packet The packet being processed.
+     * @return The packet to forward, or {@code null} if a handler dropped it.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Nullable Packet<?> dispatch(@NotNull Player player, @NotNull Packet<?> packet) {
+        if (registered.isEmpty()) return packet;
+
+        PacketHandler<?>[] handlers = handlers(packet.getClass());
+        Packet<?> current = packet;
+        for (PacketHandler handler : handlers) {
+            try {
+                current = handler.handle(player, current);
+            } catch (Throwable t) {
+                AbyssalLib.getInstance().getLogger().warning("Packet handler failed for " + packet.getClass().getSimpleName() + ": " + t.getMessage());
+            }
+            if (current == null) return null;
+        }
+        return current;
+    }
+
+    private PacketHandler<?>[] handlers(Class<?> type) {
+        Map<Class<?>, PacketHandler<?>[]> cache = resolved;
+        PacketHandler<?>[] handlers = cache.get(type);
+        if (handlers != null) return handlers;
+
+        List<PacketHandler<?>> matching = new ArrayList<>();
+        synchronized (this) {
+            for (Map.Entry<Class<?>, List<PacketHandler<?>>> entry : registered.entrySet()) {
+                if (entry.getKey().isAssignableFrom(type)) matching.addAll(entry.getValue());
+            }
+        }
+        handlers = matching.isEmpty() ? NONE : matching.toArray(NONE);
+        cache.put(type, handlers);
+        return handlers;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.github.darksoulq.abyssallib.server.packet;
+
+import com.github.darksoulq.abyssallib.common.util.LatencyHistogram;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in timing of the work {@link PacketInterceptor} performs on each packet.
+ * <p>
+ * While enabled, every intercepted packet records, per packet class and
+ * direction, how long item translation, typed {@link PacketListeners} and
+ * the packet events took. When disabled the interceptor only reads a single
+ * volatile flag per packet.
+ */
+public final class PacketMetrics {
+
+    /**
+     * Whether packets are currently being timed.
+     */
+    private static volatile boolean enabled;
+
+    /**
+     * The collected series, keyed by direction and packet class.
+     */
+    private static final Map<Key, Series> SERIES = new ConcurrentHashMap<>();
+
+    /**
+     * Timestamp at which the current recording started.
+     */
+    private static volatile long startedAt;
+
+    private PacketMetrics() {
+    }
+
+    /**
+     * @return true if packets are currently being timed
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts or stops timing packets. Collected data is kept until {@link #reset()}.
+     *
+     * @param enabled whether packets should be timed
+     */
+    public static void setEnabled(boolean enabled) {
+        if (enabled && !PacketMetrics.enabled && SERIES.isEmpty()) startedAt = System.nanoTime();
+        PacketMetrics.enabled = enabled;
+    }
+
+    /**
+     * Discards all collected data.
+     */
+    public static void reset() {
+        SERIES.clear();
+        startedAt = System.nanoTime();
+    }
+
+    /**
+     * Records the cost of handling one packet.
+     *
+     * @param direction   the direction the packet travelled in
+     * @param type        the class of the packet as received from the pipeline
+     * @param translation nanoseconds spent translating items and text
+     * @param listeners   nanoseconds spent in typed packet listeners
+     * @param events      nanoseconds spent posting packet events, or a negative value if none were posted
+     */
+    static void record(@NotNull Direction direction, @NotNull Class<?> type, long translation, long listeners, long events) {
+        Series series = SERIES.computeIfAbsent(new Key(direction, type), k -> new Series());
+        series.count.increment();
+        series.translation.record(translation);
+        series.listeners.record(listeners);
+        if (events >= 0) series.events.record(events);
+    }
+
+    /**
+     * Captures the collected data, ordered by total time spent, most expensive first.
+     *
+     * @return a snapshot of every packet class seen since the last reset
+     */
+    public static @NotNull Snapshot snapshot() {
+        List<PacketStats> packets = new ArrayList<>(SERIES.size());
+        SERIES.forEach((key, series) -> packets.add(new PacketStats(
+            key.type, key.direction, series.count.sum(),
+            series.translation.snapshot(), series.listeners.snapshot(), series.events.snapshot())));
+        packets.sort(Comparator.comparingLong(PacketStats::totalNanos).reversed());
+        return new Snapshot(enabled, System.nanoTime() - startedAt, packets);
+    }
+
+    /**
+     * The direction a packet travels in.
+     */
+    public enum Direction {
+        INBOUND, OUTBOUND
+    }
+
+    /**
+     * The collected data at a point in time.
+     *
+     * @param enabled      whether recording was active
+     * @param elapsedNanos time since recording started or was last reset
+     * @param packets      statistics per packet class and direction
+     */
+    public record Snapshot(boolean enabled, long elapsedNanos, List<PacketStats> packets) {
+    }
+
+    /**
+     * Statistics for one packet class in one direction.
+     *
+     * @param type        the packet class
+     * @param direction   the direction the packets travelled in
+     * @param count       the number of packets handled
+     * @param translation time spent translating items and text
+     * @param listeners   time spent in typed packet listeners
+     * @param events      time spent posting packet events
+     */
+    public record PacketStats(Class<?> type, Direction direction, long count,
+                              LatencyHistogram.Snapshot translation,
+                              LatencyHistogram.Snapshot listeners,
+                              LatencyHistogram.Snapshot events) {
+
+        /**
+         * @return the total time spent on these packets in nanoseconds
+         */
+        public long totalNanos() {
+            return translation.total() + listeners.total() + events.total();
+        }
+    }
+
+    private record Key(Direction direction, Class<?> type) {
+    }
+
+    private static final class Series {
+        private final LongAdder count = new LongAdder();
+        private final LatencyHistogram translation = new LatencyHistogram();
+        private final LatencyHistogram listeners = new LatencyHistogram();
+        private final LatencyHistogram events = new LatencyHistogram();
+    }
+}
\ No newline at end of file
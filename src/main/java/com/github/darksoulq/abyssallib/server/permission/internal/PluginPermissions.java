@@ -40,6 +40,9 @@ public class PluginPermissions {
     public static final PermissionNode RELOAD = NAMESPACE.register("reload", n -> new PermissionNode(n)
         .defaultValue(PermissionDefault.OP)
         .description("Allows reloading commands, lang files, resource packs."));
+    public static final PermissionNode PROFILE = NAMESPACE.register("profile", n -> new PermissionNode(n)
+        .defaultValue(PermissionDefault.OP)
+        .description("Allows recording and viewing performance profiles"));
     public static final PermissionNode CONTENT_ITEMS_VIEW = NAMESPACE.register("content.items.view", n -> new PermissionNode(n)
         .defaultValue(PermissionDefault.OP)
         .description("Allows opening the content items menu"));
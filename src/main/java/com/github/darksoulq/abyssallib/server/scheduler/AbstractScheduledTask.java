@@ -1,5 +1,6 @@
 package com.github.darksoulq.abyssallib.server.scheduler;
 
+import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 
 import java.time.Instant;
@@ -18,11 +19,30 @@ public class AbstractScheduledTask {
     private final BooleanSupplier until;
     private final BooleanSupplier whileCond;
     private final Entity entity;
+    private final String plugin;
+    private final String label;
+    private final Runnable labelSource;
+    private final String callSite;
+    private final boolean async;
+    private final String pool;
+    private final Location location;
+    private TaskMetrics.Tag tag;
 
     public AbstractScheduledTask(BooleanSupplier until, BooleanSupplier whileCond, Entity entity) {
+        this(until, whileCond, entity, null, null, null, null, false, null, null);
+    }
+
+    AbstractScheduledTask(BooleanSupplier until, BooleanSupplier whileCond, Entity entity, String plugin, String label, Runnable labelSource, String callSite, boolean async, String pool, Location location) {
         this.until = until;
         this.whileCond = whileCond;
         this.entity = entity;
+        this.plugin = plugin;
+        this.label = label;
+        this.labelSource = labelSource;
+        this.callSite = callSite;
+        this.async = async;
+        this.pool = pool;
+        this.location = location;
     }
 
     public Runnable getWrappedRunnable(Runnable action, long periodMillis) {
@@ -43,21 +63,32 @@ public class AbstractScheduledTask {
 
             running = true;
             try {
-                action.run();
+                if (plugin != null && TaskMetrics.isEnabled()) {
+                    long start = System.nanoTime();
+                    action.run();
+                    if (tag == null) tag = TaskMetrics.tag(plugin, label, labelSource, callSite, async, pool, entity, location);
+                    TaskMetrics.record(tag, System.nanoTime() - start);
+                } else {
+                    action.run();
+                }
                 if (periodMillis > 0) {
                     nextExecutionMillis = System.currentTimeMillis() + periodMillis;
                 } else {
                     cancel();
                 }
             } catch (Throwable t) {
-                failure = t;
-                cancel();
-                completion.completeExceptionally(t);
+                fail(t);
             }
             running = false;
         };
     }
 
+    public void fail(Throwable t) {
+        failure = t;
+        completion.completeExceptionally(t);
+        cancel();
+    }
+
     public void cancel() {
         if (cancelled) return;
         cancelled = true;
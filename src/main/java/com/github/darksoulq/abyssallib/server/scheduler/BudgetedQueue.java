@@ -0,0 +1,158 @@
+package com.github.darksoulq.abyssallib.server.scheduler;
+
+import com.github.darksoulq.abyssallib.server.util.regional.RegionalCollections;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class BudgetedQueue {
+    private static final double TICK_MILLIS = 50;
+    private static final double MIN_BUDGET_MILLIS = 0.5;
+
+    private static volatile double defaultBudgetMillis = 5;
+
+    private final Scheduler scheduler;
+    private final Location region;
+    private final Queue<Job>[] queues;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public enum Priority {
+        HIGH, NORMAL, LOW
+    }
+
+    public static void configure(double budgetMillis) {
+        defaultBudgetMillis = Math.max(MIN_BUDGET_MILLIS, budgetMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected BudgetedQueue(Scheduler scheduler, Location region) {
+        this.scheduler = scheduler;
+        this.region = region;
+        this.queues = new Queue[Priority.values().length];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    public Job submit(Runnable unit) {
+        return submit(Priority.NORMAL, unit);
+    }
+
+    public Job submit(Priority priority, Runnable unit) {
+        return submit(priority, List.of(unit));
+    }
+
+    public Job submit(Collection<? extends Runnable> units) {
+        return submit(Priority.NORMAL, units);
+    }
+
+    public Job submit(Priority priority, Collection<? extends Runnable> units) {
+        return submit(priority, units.iterator(), units.size());
+    }
+
+    public Job submit(Priority priority, Iterator<? extends Runnable> units, int total) {
+        Job job = new Job(units, total);
+        queues[priority.ordinal()].add(job);
+        if (running.compareAndSet(false, true)) start();
+        return job;
+    }
+
+    public int pending() {
+        int pending = 0;
+        for (Queue<Job> queue : queues) {
+            pending += queue.size();
+        }
+        return pending;
+    }
+
+    public double currentBudgetMillis() {
+        double budget = defaultBudgetMillis;
+        if (RegionalCollections.IS_FOLIA) return budget;
+        double spare = TICK_MILLIS - Bukkit.getAverageTickTime();
+        return Math.max(MIN_BUDGET_MILLIS, Math.min(budget, spare));
+    }
+
+    private void start() {
+        AtomicReference<ScheduledTask> handle = new AtomicReference<>();
+        TaskBuilder builder = scheduler.schedule(() -> drain(handle.get()));
+        if (region != null) builder.region(region);
+        handle.set(builder.repeatEvery(1, Clock.TICKS));
+    }
+
+    private void drain(ScheduledTask self) {
+        long deadline = System.nanoTime() + (long) (currentBudgetMillis() * 1_000_000);
+        boolean ranAny = false;
+
+        for (Queue<Job> queue : queues) {
+            Job job;
+            while ((job = queue.peek()) != null) {
+                if (job.future.isDone()) {
+                    queue.poll();
+                    continue;
+                }
+                while (job.units.hasNext()) {
+                    if (ranAny && System.nanoTime() >= deadline) return;
+                    ranAny = true;
+                    try {
+                        job.units.next().run();
+                    } catch (Throwable t) {
+                        job.future.completeExceptionally(t);
+                        break;
+                    }
+                    job.completed++;
+                }
+                queue.poll();
+                job.future.complete(null);
+            }
+        }
+
+        running.set(false);
+        if (pending() > 0 && running.compareAndSet(false, true)) return;
+        if (self != null) self.cancel();
+    }
+
+    public static final class Job {
+        private final Iterator<? extends Runnable> units;
+        private final int total;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private volatile int completed;
+
+        private Job(Iterator<? extends Runnable> units, int total) {
+            this.units = units;
+            this.total = total;
+        }
+
+        public int completed() {
+            return completed;
+        }
+
+        public int total() {
+            return total;
+        }
+
+        public double progress() {
+            if (future.isDone()) return 1;
+            return total > 0 ? Math.min(1, (double) completed / total) : 0;
+        }
+
+        public CompletableFuture<Void> future() {
+            return future;
+        }
+
+        public boolean cancel() {
+            return future.cancel(false);
+        }
+
+        public boolean isDone() {
+            return future.isDone();
+        }
+    }
+}
\ No newline at end of file
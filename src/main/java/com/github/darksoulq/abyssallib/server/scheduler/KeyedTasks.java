@@ -0,0 +1,55 @@
+package com.github.darksoulq.abyssallib.server.scheduler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+class KeyedTasks {
+    private final Map<Object, Pending> pending = new ConcurrentHashMap<>();
+
+    ScheduledTask coalesce(Object key, Runnable action, Function<Runnable, ScheduledTask> dispatch) {
+        Pending[] created = new Pending[1];
+        Pending result = pending.compute(key, (k, current) -> {
+            if (current != null && !current.task.isCancelled()) {
+                current.action = action;
+                return current;
+            }
+            return created[0] = create(k, action, dispatch);
+        });
+        if (created[0] != null) release(key, created[0]);
+        return result.task;
+    }
+
+    ScheduledTask debounce(Object key, Runnable action, Function<Runnable, ScheduledTask> dispatch) {
+        Pending[] previous = new Pending[1];
+        Pending created = pending.compute(key, (k, current) -> {
+            previous[0] = current;
+            return create(k, action, dispatch);
+        });
+        if (previous[0] != null) previous[0].task.cancel();
+        release(key, created);
+        return created.task;
+    }
+
+    private Pending create(Object key, Runnable action, Function<Runnable, ScheduledTask> dispatch) {
+        Pending created = new Pending(action);
+        created.task = dispatch.apply(() -> {
+            if (pending.remove(key, created)) created.action.run();
+        });
+        return created;
+    }
+
+    // Registered outside compute: cancellation completes synchronously and must not re-enter the map.
+    private void release(Object key, Pending created) {
+        created.task.completion().whenComplete((ignored, error) -> pending.remove(key, created));
+    }
+
+    private static final class Pending {
+        private volatile Runnable action;
+        private ScheduledTask task;
+
+        private Pending(Runnable action) {
+            this.action = action;
+        }
+    }
+}
\ No newline at end of file
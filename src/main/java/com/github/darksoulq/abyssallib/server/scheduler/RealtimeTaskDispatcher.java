@@ -1,24 +1,80 @@
 package com.github.darksoulq.abyssallib.server.scheduler;
 
+import com.github.darksoulq.abyssallib.common.util.LatencyHistogram;
+
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.*;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 public class RealtimeTaskDispatcher {
-    private static final ScheduledExecutorService EXECUTOR = Executors.newScheduledThreadPool(4);
+    public static final String DEFAULT_POOL = "default";
+
+    private static final Map<String, WorkerPool> POOLS = new ConcurrentHashMap<>();
+
+    private static volatile ScheduledExecutorService timer = newTimer();
+
+    private static volatile Mode mode = Mode.POOLED;
+    private static volatile int poolSize = 4;
+
+    public enum Mode {
+        POOLED, VIRTUAL
+    }
+
+    public static void configure(Mode mode, int poolSize) {
+        RealtimeTaskDispatcher.mode = mode;
+        RealtimeTaskDispatcher.poolSize = Math.max(1, poolSize);
+        timer();
+    }
+
+    private static ScheduledExecutorService newTimer() {
+        return Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("AbyssalLib-Timer").daemon().factory());
+    }
+
+    private static ScheduledExecutorService timer() {
+        ScheduledExecutorService current = timer;
+        if (!current.isShutdown()) return current;
+        synchronized (RealtimeTaskDispatcher.class) {
+            if (timer.isShutdown()) timer = newTimer();
+            return timer;
+        }
+    }
 
     public static ScheduledTask schedule(Runnable action, long delayMillis, long periodMillis, AbstractScheduledTask abstractTask) {
+        return schedule(action, DEFAULT_POOL, delayMillis, periodMillis, abstractTask);
+    }
+
+    public static ScheduledTask schedule(Runnable action, String pool, long delayMillis, long periodMillis, AbstractScheduledTask abstractTask) {
         Runnable wrapped = abstractTask.getWrappedRunnable(action, periodMillis);
-        ScheduledFuture<?> future = periodMillis > 0
-            ? EXECUTOR.scheduleAtFixedRate(wrapped, delayMillis, periodMillis, TimeUnit.MILLISECONDS)
-            : EXECUTOR.schedule(wrapped, delayMillis, TimeUnit.MILLISECONDS);
+        WorkerPool worker = POOLS.computeIfAbsent(pool == null ? DEFAULT_POOL : pool, WorkerPool::new);
+        AtomicBoolean inFlight = new AtomicBoolean();
+        Runnable submit = () -> worker.submit(wrapped, inFlight, abstractTask);
+
+        ScheduledFuture<?> future = null;
+        try {
+            if (periodMillis > 0) {
+                future = timer().scheduleAtFixedRate(submit, delayMillis, periodMillis, TimeUnit.MILLISECONDS);
+            } else if (delayMillis > 0) {
+                future = timer().schedule(submit, delayMillis, TimeUnit.MILLISECONDS);
+            } else {
+                submit.run();
+            }
+        } catch (RejectedExecutionException e) {
+            abstractTask.fail(e);
+        }
+        ScheduledFuture<?> scheduled = future;
 
         return new ScheduledTask() {
             @Override
             public void cancel() {
                 abstractTask.cancel();
-                future.cancel(false);
+                if (scheduled != null) scheduled.cancel(false);
             }
 
             @Override
@@ -47,4 +103,79 @@ public class RealtimeTaskDispatcher {
             }
         };
     }
+
+    public static List<PoolStats> stats() {
+        List<PoolStats> stats = new ArrayList<>(POOLS.size());
+        for (WorkerPool pool : POOLS.values()) {
+            stats.add(new PoolStats(pool.name, pool.mode, pool.queued.get(), pool.completed.sum(), pool.waits.snapshot()));
+        }
+        return stats;
+    }
+
+    public static void shutdown(long timeout, TimeUnit unit) {
+        timer.shutdownNow();
+        List<WorkerPool> pools = new ArrayList<>(POOLS.values());
+        POOLS.clear();
+        for (WorkerPool pool : pools) {
+            pool.executor.shutdown();
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (WorkerPool pool : pools) {
+            try {
+                pool.executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public record PoolStats(String name, Mode mode, int queued, long completed, LatencyHistogram.Snapshot wait) {
+    }
+
+    private static final class WorkerPool {
+        private final String name;
+        private final Mode mode;
+        private final ExecutorService executor;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private final LatencyHistogram waits = new LatencyHistogram();
+
+        private WorkerPool(String name) {
+            this.name = name;
+            this.mode = RealtimeTaskDispatcher.mode;
+            if (mode == Mode.VIRTUAL) {
+                this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("AbyssalLib-" + name + "-", 0).factory());
+            } else {
+                int size = poolSize;
+                ThreadPoolExecutor pool = new ThreadPoolExecutor(size, size, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    Thread.ofPlatform().name("AbyssalLib-" + name + "-", 0).daemon().factory());
+                pool.allowCoreThreadTimeOut(true);
+                this.executor = pool;
+            }
+        }
+
+        private void submit(Runnable task, AtomicBoolean inFlight, AbstractScheduledTask abstractTask) {
+            if (!inFlight.compareAndSet(false, true)) return;
+
+            long enqueued = System.nanoTime();
+            queued.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    queued.decrementAndGet();
+                    waits.record(System.nanoTime() - enqueued);
+                    try {
+                        task.run();
+                    } finally {
+                        completed.increment();
+                        inFlight.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                queued.decrementAndGet();
+                inFlight.set(false);
+                abstractTask.fail(e);
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -1,11 +1,22 @@
 package com.github.darksoulq.abyssallib.server.scheduler;
 
+import com.github.darksoulq.abyssallib.server.util.regional.RegionalCollections;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.plugin.Plugin;
 
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 public class Scheduler {
+    private static final Object GLOBAL_QUEUE = new Object();
+    private static final int AREA_SHIFT = 8;
+
     private final TaskDispatcher dispatcher;
+    private final KeyedTasks keyedTasks = new KeyedTasks();
+    private final Map<Object, BudgetedQueue> budgetedQueues = new ConcurrentHashMap<>();
 
     public Scheduler(Plugin plugin) {
         this.dispatcher = new TaskDispatcher(plugin);
@@ -15,6 +26,22 @@ public class Scheduler {
         return new TaskBuilder(this, task);
     }
 
+    public BudgetedQueue budgeted() {
+        return budgeted(null);
+    }
+
+    public BudgetedQueue budgeted(Location region) {
+        if (region == null || region.getWorld() == null || !RegionalCollections.IS_FOLIA) {
+            return budgetedQueues.computeIfAbsent(GLOBAL_QUEUE, k -> new BudgetedQueue(this, null));
+        }
+
+        World world = region.getWorld();
+        int areaX = region.getBlockX() >> AREA_SHIFT;
+        int areaZ = region.getBlockZ() >> AREA_SHIFT;
+        return budgetedQueues.computeIfAbsent(new QueueArea(world.getUID(), areaX, areaZ),
+            k -> new BudgetedQueue(this, new Location(world, areaX << AREA_SHIFT, 0, areaZ << AREA_SHIFT)));
+    }
+
     public void sequence(Consumer<SequenceBuilder> sequenceConfig) {
         SequenceBuilder builder = new SequenceBuilder(this);
         sequenceConfig.accept(builder);
@@ -24,4 +51,11 @@ public class Scheduler {
     protected TaskDispatcher getDispatcher() {
         return dispatcher;
     }
+
+    KeyedTasks getKeyedTasks() {
+        return keyedTasks;
+    }
+
+    private record QueueArea(UUID world, int areaX, int areaZ) {
+    }
 }
\ No newline at end of file
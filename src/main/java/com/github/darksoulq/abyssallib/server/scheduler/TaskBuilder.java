@@ -9,12 +9,16 @@ public class TaskBuilder {
     private final Scheduler scheduler;
     private final Runnable action;
     private boolean async = false;
+    private String pool = RealtimeTaskDispatcher.DEFAULT_POOL;
     private Entity entity = null;
     private Location location = null;
     private long delay = 0;
     private Clock delayClock = Clock.TICKS;
     private BooleanSupplier untilCondition = null;
     private BooleanSupplier whileCondition = null;
+    private Object key = null;
+    private boolean debounce = false;
+    private String label = null;
 
     public TaskBuilder(Scheduler scheduler, Runnable action) {
         this.scheduler = scheduler;
@@ -31,6 +35,12 @@ public class TaskBuilder {
         return this;
     }
 
+    public TaskBuilder async(String pool) {
+        this.async = true;
+        this.pool = pool;
+        return this;
+    }
+
     public TaskBuilder entity(Entity entity) {
         this.entity = entity;
         return this;
@@ -58,6 +68,27 @@ public class TaskBuilder {
         return after(time, clock.unit(), clock);
     }
 
+    public TaskBuilder label(String label) {
+        this.label = label;
+        return this;
+    }
+
+    public TaskBuilder coalesce(Object key) {
+        this.key = key;
+        this.debounce = false;
+        return this;
+    }
+
+    public TaskBuilder debounce(Object key, long time, TimeUnit unit, Clock clock) {
+        this.key = key;
+        this.debounce = true;
+        return after(time, unit, clock);
+    }
+
+    public TaskBuilder debounce(Object key, long time, Clock clock) {
+        return debounce(key, time, clock.unit(), clock);
+    }
+
     public TaskBuilder repeatUntil(BooleanSupplier condition) {
         this.untilCondition = condition;
         return this;
@@ -69,13 +100,21 @@ public class TaskBuilder {
     }
 
     public ScheduledTask once() {
-        return scheduler.getDispatcher().dispatch(action, async, entity, location, delay, delayClock, 0, Clock.TICKS, untilCondition, whileCondition);
+        if (key == null) return dispatchOnce(action);
+        return debounce
+            ? scheduler.getKeyedTasks().debounce(key, action, this::dispatchOnce)
+            : scheduler.getKeyedTasks().coalesce(key, action, this::dispatchOnce);
+    }
+
+    private ScheduledTask dispatchOnce(Runnable wrapped) {
+        return scheduler.getDispatcher().dispatch(wrapped, label, action, async, pool, entity, location, delay, delayClock, 0, Clock.TICKS, untilCondition, whileCondition);
     }
 
     public ScheduledTask repeatEvery(long time, TimeUnit unit, Clock clock) {
+        if (key != null) throw new IllegalStateException("Coalesced and debounced tasks cannot repeat");
         long period = clock == Clock.REALTIME ? unit.toMillis(time) : unit.toTicks(time);
         if (clock == Clock.REALTIME) this.async = true;
-        return scheduler.getDispatcher().dispatch(action, async, entity, location, delay, delayClock, period, clock, untilCondition, whileCondition);
+        return scheduler.getDispatcher().dispatch(action, label, action, async, pool, entity, location, delay, delayClock, period, clock, untilCondition, whileCondition);
     }
 
     public ScheduledTask repeatEvery(long time, Clock clock) {
@@ -9,14 +9,24 @@ import java.util.function.BooleanSupplier;
 
 public class TaskDispatcher {
     private final Plugin plugin;
+    private final TimingWheel wheel;
 
     public TaskDispatcher(Plugin plugin) {
         this.plugin = plugin;
+        this.wheel = new TimingWheel(plugin);
     }
 
     public ScheduledTask dispatch(Runnable action, boolean async, Entity entity, Location location, long delay, Clock delayClock, long period, Clock periodClock, BooleanSupplier until, BooleanSupplier whileCond) {
+        return dispatch(action, async, RealtimeTaskDispatcher.DEFAULT_POOL, entity, location, delay, delayClock, period, periodClock, until, whileCond);
+    }
+
+    public ScheduledTask dispatch(Runnable action, boolean async, String pool, Entity entity, Location location, long delay, Clock delayClock, long period, Clock periodClock, BooleanSupplier until, BooleanSupplier whileCond) {
+        return dispatch(action, null, action, async, pool, entity, location, delay, delayClock, period, periodClock, until, whileCond);
+    }
+
+    ScheduledTask dispatch(Runnable action, String label, Runnable labelSource, boolean async, String pool, Entity entity, Location location, long delay, Clock delayClock, long period, Clock periodClock, BooleanSupplier until, BooleanSupplier whileCond) {
         boolean isAsync = async || delayClock == Clock.REALTIME || periodClock == Clock.REALTIME;
-        AbstractScheduledTask abstractTask = new AbstractScheduledTask(until, whileCond, entity);
+        AbstractScheduledTask abstractTask = new AbstractScheduledTask(until, whileCond, entity, plugin.getName(), label, labelSource, TaskMetrics.callSite(), isAsync, pool, location);
 
         long delayTicks = delayClock == Clock.REALTIME ? delay / 50 : delay;
         long periodTicks = periodClock == Clock.REALTIME ? period / 50 : period;
@@ -24,11 +34,14 @@ public class TaskDispatcher {
         long periodMillis = periodClock == Clock.REALTIME ? period : period * 50;
 
         if (RegionalCollections.IS_FOLIA) {
+            if (!isAsync && entity == null && location == null) {
+                return wheel.schedule(action, delayTicks, periodTicks, abstractTask);
+            }
             return FoliaTaskDispatcher.schedule(plugin, action, isAsync, entity, location, delayTicks, periodTicks, delayMillis, periodMillis, abstractTask);
         } else if (isAsync) {
-            return RealtimeTaskDispatcher.schedule(abstractTask.getWrappedRunnable(action, periodMillis), delayMillis, periodMillis, abstractTask);
+            return RealtimeTaskDispatcher.schedule(action, pool, delayMillis, periodMillis, abstractTask);
         } else {
-            return BukkitTaskDispatcher.schedule(plugin, action, false, delayTicks, periodTicks, abstractTask);
+            return wheel.schedule(action, delayTicks, periodTicks, abstractTask);
         }
     }
 }
\ No newline at end of file
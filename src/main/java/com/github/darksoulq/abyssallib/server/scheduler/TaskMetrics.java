@@ -0,0 +1,176 @@
+package com.github.darksoulq.abyssallib.server.scheduler;
+
+import com.github.darksoulq.abyssallib.AbyssalLib;
+import com.github.darksoulq.abyssallib.common.util.LatencyHistogram;
+import com.github.darksoulq.abyssallib.server.util.regional.RegionalCollections;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class TaskMetrics {
+    private static final String PACKAGE = TaskMetrics.class.getPackageName();
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static final long WARN_INTERVAL_NANOS = 60_000_000_000L;
+    private static final long WINDOW_NANOS = 60_000_000_000L;
+    private static final int AREA_SHIFT = 4;
+
+    private static volatile Window current = new Window(System.nanoTime());
+    private static volatile Window previous;
+    private static volatile boolean enabled;
+    private static volatile long startedAt;
+    private static volatile long slowThresholdNanos = 20_000_000L;
+
+    private TaskMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        if (enabled && !TaskMetrics.enabled) reset();
+        TaskMetrics.enabled = enabled;
+    }
+
+    public static void setSlowThreshold(double millis) {
+        slowThresholdNanos = (long) (millis * 1_000_000);
+    }
+
+    public static synchronized void reset() {
+        long now = System.nanoTime();
+        previous = null;
+        current = new Window(now);
+        startedAt = now;
+    }
+
+    public static String labelOf(Runnable action) {
+        String name = action.getClass().getName();
+        int lambda = name.indexOf("$$Lambda");
+        if (lambda >= 0) name = name.substring(0, lambda);
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    static String callSite() {
+        if (!enabled) return null;
+        return WALKER.walk(frames -> frames
+            .filter(frame -> !frame.getClassName().startsWith(PACKAGE + "."))
+            .findFirst()
+            .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1) + ":" + frame.getLineNumber())
+            .orElse(null));
+    }
+
+    static void record(Tag tag, long nanos) {
+        long now = System.nanoTime();
+        Series series = window(now).series.computeIfAbsent(tag, t -> new Series());
+        series.timings.record(nanos);
+
+        long threshold = slowThresholdNanos;
+        if (threshold <= 0 || nanos < threshold) return;
+        series.slow.increment();
+        long last = series.lastWarned.get();
+        if ((last == 0 || now - last >= WARN_INTERVAL_NANOS) && series.lastWarned.compareAndSet(last, now)) {
+            AbyssalLib.LOGGER.warning("Task " + tag.describe() + " in " + tag.context + " took "
+                + String.format("%.1fms", nanos / 1_000_000.0));
+        }
+    }
+
+    private static Window window(long now) {
+        Window window = current;
+        if (now - window.start < WINDOW_NANOS) return window;
+        synchronized (TaskMetrics.class) {
+            window = current;
+            if (now - window.start < WINDOW_NANOS) return window;
+            previous = now - window.start < 2 * WINDOW_NANOS ? window : null;
+            current = window = new Window(now);
+            return window;
+        }
+    }
+
+    public static Snapshot snapshot() {
+        long now = System.nanoTime();
+        Window latest = window(now);
+        Window older = previous;
+
+        Map<Tag, List<Series>> merged = new LinkedHashMap<>();
+        if (older != null) older.series.forEach((tag, series) -> merged.computeIfAbsent(tag, t -> new ArrayList<>(2)).add(series));
+        latest.series.forEach((tag, series) -> merged.computeIfAbsent(tag, t -> new ArrayList<>(2)).add(series));
+
+        Map<String, List<TaskStats>> byContext = new LinkedHashMap<>();
+        merged.forEach((tag, series) -> {
+            LatencyHistogram[] timings = new LatencyHistogram[series.size()];
+            long slow = 0;
+            for (int i = 0; i < timings.length; i++) {
+                timings[i] = series.get(i).timings;
+                slow += series.get(i).slow.sum();
+            }
+            byContext.computeIfAbsent(tag.context, c -> new ArrayList<>())
+                .add(new TaskStats(tag.plugin, tag.label, tag.callSite, LatencyHistogram.combine(timings), slow));
+        });
+
+        List<ContextStats> contexts = new ArrayList<>(byContext.size());
+        byContext.forEach((context, tasks) -> {
+            tasks.sort(Comparator.comparingLong((TaskStats stats) -> stats.timings().total()).reversed());
+            contexts.add(new ContextStats(context, tasks));
+        });
+        contexts.sort(Comparator.comparingLong(ContextStats::totalNanos).reversed());
+        long windowStart = older != null ? older.start : latest.start;
+        return new Snapshot(enabled, now - Math.max(startedAt, windowStart), contexts);
+    }
+
+    public record Snapshot(boolean enabled, long elapsedNanos, List<ContextStats> contexts) {
+    }
+
+    public record ContextStats(String context, List<TaskStats> tasks) {
+        public long totalNanos() {
+            long total = 0;
+            for (TaskStats task : tasks) {
+                total += task.timings().total();
+            }
+            return total;
+        }
+    }
+
+    public record TaskStats(String plugin, String label, String callSite, LatencyHistogram.Snapshot timings, long slowRuns) {
+    }
+
+    static Tag tag(String plugin, String label, Runnable action, String callSite, boolean async, String pool, Entity entity, Location location) {
+        return new Tag(plugin, label != null ? label : labelOf(action), context(async, pool, entity, location), callSite);
+    }
+
+    private static String context(boolean async, String pool, Entity entity, Location location) {
+        if (async) return "async " + pool;
+        if (!RegionalCollections.IS_FOLIA) return "main";
+        Location loc = entity != null ? entity.getLocation() : location;
+        if (loc == null || loc.getWorld() == null) return "global";
+        return "region " + loc.getWorld().getName() + " " + (loc.getBlockX() >> (4 + AREA_SHIFT)) + "," + (loc.getBlockZ() >> (4 + AREA_SHIFT));
+    }
+
+    record Tag(String plugin, String label, String context, String callSite) {
+        private String describe() {
+            return plugin + "/" + label + (callSite == null ? "" : " (" + callSite + ")");
+        }
+    }
+
+    private static final class Window {
+        private final long start;
+        private final Map<Tag, Series> series = new ConcurrentHashMap<>();
+
+        private Window(long start) {
+            this.start = start;
+        }
+    }
+
+    private static final class Series {
+        private final LatencyHistogram timings = new LatencyHistogram();
+        private final LongAdder slow = new LongAdder();
+        private final AtomicLong lastWarned = new AtomicLong();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.github.darksoulq.abyssallib.server.scheduler;
+
+import com.github.darksoulq.abyssallib.server.util.regional.RegionalCollections;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class TimingWheel {
+    private static final int BITS = 6;
+    private static final int SIZE = 1 << BITS;
+    private static final int MASK = SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final Plugin plugin;
+    private final List<Entry>[][] slots;
+    private final Queue<Entry> inbox = new ConcurrentLinkedQueue<>();
+    private volatile long tick;
+    private boolean started;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(Plugin plugin) {
+        this.plugin = plugin;
+        this.slots = new List[LEVELS][SIZE];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SIZE; slot++) {
+                slots[level][slot] = new ArrayList<>();
+            }
+        }
+    }
+
+    public ScheduledTask schedule(Runnable action, long delayTicks, long periodTicks, AbstractScheduledTask abstractTask) {
+        Runnable wrapped = abstractTask.getWrappedRunnable(action, periodTicks > 0 ? periodTicks * 50 : 0);
+        inbox.add(new Entry(wrapped, abstractTask, tick + Math.max(1, delayTicks), periodTicks));
+        start();
+
+        return new ScheduledTask() {
+            @Override
+            public void cancel() {
+                abstractTask.cancel();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return abstractTask.isCancelled();
+            }
+
+            @Override
+            public boolean isRunning() {
+                return abstractTask.isRunning();
+            }
+
+            @Override
+            public Instant nextExecution() {
+                return abstractTask.nextExecution();
+            }
+
+            @Override
+            public Optional<Throwable> failure() {
+                return abstractTask.failure();
+            }
+
+            @Override
+            public CompletionStage<Void> completion() {
+                return abstractTask.completion();
+            }
+        };
+    }
+
+    private synchronized void start() {
+        if (started) return;
+        started = true;
+        if (RegionalCollections.IS_FOLIA) {
+            Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, t -> advance(), 1, 1);
+        } else {
+            Bukkit.getScheduler().runTaskTimer(plugin, this::advance, 1, 1);
+        }
+    }
+
+    private void advance() {
+        long now = tick + 1;
+        tick = now;
+
+        Entry pending;
+        while ((pending = inbox.poll()) != null) {
+            place(pending, now);
+        }
+
+        int crossed = 0;
+        while (crossed + 1 < LEVELS && (now & ((1L << (BITS * (crossed + 1))) - 1)) == 0) {
+            crossed++;
+        }
+        for (int level = crossed; level > 0; level--) {
+            for (Entry entry : take(level, (int) (now >>> (BITS * level)) & MASK)) {
+                place(entry, now);
+            }
+        }
+
+        for (Entry entry : take(0, (int) now & MASK)) {
+            run(entry, now);
+        }
+    }
+
+    private List<Entry> take(int level, int slot) {
+        List<Entry> entries = slots[level][slot];
+        if (entries.isEmpty()) return List.of();
+        slots[level][slot] = new ArrayList<>();
+        return entries;
+    }
+
+    private void place(Entry entry, long now) {
+        if (entry.task.isCancelled()) return;
+        if (entry.due <= now) {
+            run(entry, now);
+            return;
+        }
+
+        int level = (63 - Long.numberOfLeadingZeros(entry.due ^ now)) / BITS;
+        if (level >= LEVELS) level = LEVELS - 1;
+        slots[level][(int) (entry.due >>> (BITS * level)) & MASK].add(entry);
+    }
+
+    private void run(Entry entry, long now) {
+        if (entry.task.isCancelled()) return;
+        entry.action.run();
+        if (entry.period > 0 && !entry.task.isCancelled()) {
+            entry.due = now + entry.period;
+            place(entry, now);
+        }
+    }
+
+    private static final class Entry {
+        private final Runnable action;
+        private final AbstractScheduledTask task;
+        private final long period;
+        private long due;
+
+        private Entry(Runnable action, AbstractScheduledTask task, long due, long period) {
+            this.action = action;
+            this.task = task;
+            this.due = due;
+            this.period = period;
+        }
+    }
+}
\ No newline at end of file
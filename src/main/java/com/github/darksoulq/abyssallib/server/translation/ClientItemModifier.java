@@ -6,4 +6,17 @@ import org.bukkit.inventory.ItemStack;
 @FunctionalInterface
 public interface ClientItemModifier {
     boolean modify(ItemStack item, Player player);
+
+    /**
+     * Whether the result of this modifier depends only on the item and the viewer's locale.
+     * <p>
+     * Translated items are cached per locale. Modifiers are run for every player and every
+     * item sent by default; returning {@code true} lets their output be cached and shared
+     * between players with the same locale.
+     *
+     * @return true if results may be shared between players with the same locale
+     */
+    default boolean isCacheable() {
+        return false;
+    }
 }
\ No newline at end of file
@@ -3,23 +3,31 @@ package com.github.darksoulq.abyssallib.server.translation;
 import com.github.darksoulq.abyssallib.common.color.MiniMessageBridge;
 import com.github.darksoulq.abyssallib.server.placeholder.CustomPlaceholderResolver;
 import com.github.darksoulq.abyssallib.server.translation.internal.CustomTranslator;
+import com.github.darksoulq.abyssallib.server.translation.internal.ItemPacketModifier;
 import com.github.darksoulq.abyssallib.server.translation.internal.LanguageLoader;
 import com.github.darksoulq.abyssallib.world.item.Item;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TranslatableComponent;
 import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.minimessage.Context;
 import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.ParsingException;
+import net.kyori.adventure.text.minimessage.tag.Inserting;
 import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.nio.file.Path;
 import java.util.*;
-import java.util.regex.Matcher;
 
 /**
  * Utility class for managing server-side component translations and MiniMessage parsing.
@@ -61,6 +69,39 @@ public final class ServerTranslator {
      */
     private static final List<TagResolver> GLOBAL_RESOLVERS = new ArrayList<>();
 
+    /**
+     * Per-thread flag recording whether the current translation used viewer-specific or live values.
+     */
+    private static final ThreadLocal<boolean[]> DYNAMIC = ThreadLocal.withInitial(() -> new boolean[1]);
+
+    /**
+     * Per-thread list collecting the source of every dynamic tag left as a hole by the template being parsed.
+     */
+    private static final ThreadLocal<List<String>> HOLES = new ThreadLocal<>();
+
+    /**
+     * Key prefix of the placeholder components marking translation argument holes in a template.
+     */
+    private static final String ARGUMENT_HOLE = "abyssallib.hole.argument.";
+
+    /**
+     * Key prefix of the placeholder components marking dynamic tag holes in a template.
+     */
+    private static final String TAG_HOLE = "abyssallib.hole.tag.";
+
+    /**
+     * Resolves the argument tags written into raw patterns to argument holes.
+     */
+    private static final TagResolver ARGUMENTS = TagResolver.resolver("abyssallib_arg", (queue, ctx) ->
+        Tag.selfClosingInserting(Component.translatable(ARGUMENT_HOLE + queue.popOr("Missing argument index").value())));
+
+    /**
+     * Parsed MiniMessage patterns per locale, with translation arguments and dynamic tags left as holes.
+     */
+    private static final Cache<TemplateKey, Template> TEMPLATES = CacheBuilder.newBuilder()
+        .maximumSize(4096)
+        .build();
+
     /**
      * Initializes the server translation module and invokes the primary language loading sequence.
      */
@@ -75,6 +116,192 @@ public final class ServerTranslator {
         LanguageLoader.load(TRANSLATOR);
         PATH_FILES.forEach(p -> LanguageLoader.loadFile(p, TRANSLATOR));
         RESOURCE_FILES.forEach((p, l) -> l.forEach(s -> LanguageLoader.loadResource(p, s, TRANSLATOR)));
+        TEMPLATES.invalidateAll();
+        ItemPacketModifier.invalidateCache();
+    }
+
+    /**
+     * Starts recording whether translations on the current thread depend on the viewer.
+     */
+    @ApiStatus.Internal
+    public static void beginTracking() {
+        DYNAMIC.get()[0] = false;
+    }
+
+    /**
+     * Stops recording and reports whether any translation since {@link #beginTracking()} consulted a
+     * translation provider, a PlaceholderAPI placeholder or a custom placeholder.
+     *
+     * @return True if the translated output must not be shared between viewers.
+     */
+    @ApiStatus.Internal
+    public static boolean endTracking() {
+        boolean[] flag = DYNAMIC.get();
+        boolean dynamic = flag[0];
+        flag[0] = false;
+        return dynamic;
+    }
+
+    /**
+     * Wraps a resolver producing viewer-specific or live output.
+     * <p>
+     * While a template is parsed, inserting tags are left as holes that are resolved again on every
+     * render. Any other tag, such as a pre-processing or styling tag, changes the parse itself and
+     * marks the current translation as dynamic instead.
+     *
+     * @param resolver The resolver producing viewer-specific or live output.
+     * @return A tracking resolver delegating to the given one.
+     */
+    private static TagResolver dynamic(@NotNull TagResolver resolver) {
+        return new TagResolver() {
+            @Override
+            public @Nullable Tag resolve(@NotNull String name, @NotNull ArgumentQueue arguments, @NotNull Context ctx) throws ParsingException {
+                Tag tag = resolver.resolve(name, arguments, ctx);
+                if (tag == null) return null;
+
+                List<String> holes = HOLES.get();
+                if (holes == null || !(tag instanceof Inserting inserting)) {
+                    DYNAMIC.get()[0] = true;
+                    return tag;
+                }
+
+                arguments.reset();
+                StringBuilder source = new StringBuilder("<").append(name);
+                while (arguments.hasNext()) {
+                    String value = arguments.pop().value();
+                    source.append(":'").append(value.replace("\\", "\\\\").replace("'", "\\'")).append('\'');
+                }
+                holes.add(source.append('>').toString());
+
+                Component hole = Component.translatable(TAG_HOLE + (holes.size() - 1));
+                return inserting.allowsChildren() ? Tag.inserting(hole) : Tag.selfClosingInserting(hole);
+            }
+
+            @Override
+            public boolean has(@NotNull String name) {
+                return resolver.has(name);
+            }
+        };
+    }
+
+    /**
+     * Parses a MiniMessage pattern, reusing the previous parse for the same pattern, locale and argument count.
+     * <p>
+     * Translation arguments and inserting tags of viewer-specific resolvers are kept as holes in the
+     * cached tree and filled in for every render. A parse is not kept when a viewer-specific tag
+     * changed the parse itself. Components are immutable, so a tree without holes is returned as is.
+     *
+     * @param pattern   The MiniMessage pattern to parse.
+     * @param locale    The locale used for nested translation tags.
+     * @param resolvers The resolvers available to the pattern.
+     * @param arguments The resolved translation arguments referenced by argument tags.
+     * @return The parsed component.
+     */
+    private static Component parseTemplate(@NotNull String pattern, @NotNull Locale locale, @NotNull List<TagResolver> resolvers, @NotNull List<Component> arguments) {
+        TagResolver[] resolved = resolvers.toArray(new TagResolver[0]);
+        TemplateKey key = new TemplateKey(pattern, locale, arguments.size());
+        Template template = TEMPLATES.getIfPresent(key);
+
+        if (template == null) {
+            boolean[] flag = DYNAMIC.get();
+            boolean outer = flag[0];
+            List<String> outerHoles = HOLES.get();
+            List<String> holes = new ArrayList<>();
+            flag[0] = false;
+            HOLES.set(holes);
+            Component parsed;
+            try {
+                parsed = MiniMessageBridge.parse(pattern, TagResolver.resolver(TagResolver.resolver(resolved), ARGUMENTS));
+            } finally {
+                HOLES.set(outerHoles);
+            }
+            template = new Template(parsed, List.copyOf(holes));
+            if (!flag[0]) TEMPLATES.put(key, template);
+            flag[0] |= outer;
+        }
+
+        if (template.holes().isEmpty() && arguments.isEmpty()) return template.tree();
+        return fill(template.tree(), template, arguments, resolved);
+    }
+
+    /**
+     * Replaces every hole in a template tree with its argument or a fresh parse of its dynamic tag.
+     *
+     * @param node      The node of the template tree being filled.
+     * @param template  The template the tree belongs to.
+     * @param arguments The resolved translation arguments.
+     * @param resolvers The resolvers of the current render.
+     * @return The node with all holes below it filled in.
+     */
+    private static Component fill(@NotNull Component node, @NotNull Template template, @NotNull List<Component> arguments, @NotNull TagResolver[] resolvers) {
+        List<Component> children = node.children();
+        List<Component> filled = children;
+        for (int i = 0; i < children.size(); i++) {
+            Component child = fill(children.get(i), template, arguments, resolvers);
+            if (child == children.get(i)) continue;
+            if (filled == children) filled = new ArrayList<>(children);
+            filled.set(i, child);
+        }
+
+        Component result = filled == children ? node : node.children(filled);
+        if (node.hoverEvent() != null && node.hoverEvent().value() instanceof Component text) {
+            Component hover = fill(text, template, arguments, resolvers);
+            if (hover != text) result = result.hoverEvent(HoverEvent.showText(hover));
+        }
+
+        if (!(node instanceof TranslatableComponent hole)) return result;
+        Component replacement;
+        if (hole.key().startsWith(ARGUMENT_HOLE)) {
+            int index = Integer.parseInt(hole.key().substring(ARGUMENT_HOLE.length()));
+            replacement = index < arguments.size() ? arguments.get(index) : Component.empty();
+        } else if (hole.key().startsWith(TAG_HOLE)) {
+            String source = template.holes().get(Integer.parseInt(hole.key().substring(TAG_HOLE.length())));
+            List<String> outerHoles = HOLES.get();
+            HOLES.remove();
+            try {
+                replacement = MiniMessageBridge.parse(source, resolvers);
+            } finally {
+                HOLES.set(outerHoles);
+            }
+            DYNAMIC.get()[0] = true;
+        } else {
+            return result;
+        }
+
+        List<Component> merged = new ArrayList<>(replacement.children());
+        merged.addAll(result.children());
+        return replacement.applyFallbackStyle(hole.style()).children(merged);
+    }
+
+    /**
+     * Rewrites the argument placeholders of a raw translation pattern into argument tags.
+     *
+     * @param pattern   The raw translation pattern.
+     * @param arguments The number of arguments the translatable component carries.
+     * @return The pattern with each supported placeholder replaced by an argument tag.
+     */
+    private static String withArgumentHoles(@NotNull String pattern, int arguments) {
+        StringBuilder sb = new StringBuilder(pattern);
+
+        for (int i = 0; i < arguments; i++) {
+            String hole = "<abyssallib_arg:" + i + ">";
+            replaceInBuilder(sb, "{" + i + "}", hole);
+            replaceInBuilder(sb, "%" + (i + 1) + "$s", hole);
+            replaceInBuilder(sb, "%" + (i + 1) + "$d", hole);
+        }
+
+        int sIdx;
+        int argCounter = 0;
+        while ((sIdx = sb.indexOf("%s")) != -1 && argCounter < arguments) {
+            sb.replace(sIdx, sIdx + 2, "<abyssallib_arg:" + argCounter + ">");
+            argCounter++;
+        }
+
+        String parsed = sb.toString();
+        for (int i = 0; i < arguments; i++) {
+            parsed = parsed.replaceAll("\\{" + i + ",[^}]+\\}", "<abyssallib_arg:" + i + ">");
+        }
+        return parsed;
     }
 
     /**
@@ -84,6 +311,8 @@ public final class ServerTranslator {
      */
     public static void registerItemProvider(@NotNull ItemTranslationProvider provider) {
         ITEM_PROVIDERS.add(provider);
+        TEMPLATES.invalidateAll();
+        ItemPacketModifier.invalidateCache();
     }
 
     /**
@@ -93,19 +322,23 @@ public final class ServerTranslator {
      */
     public static void registerGlobalProvider(@NotNull GlobalTranslationProvider provider) {
         GLOBAL_PROVIDERS.add(provider);
+        TEMPLATES.invalidateAll();
+        ItemPacketModifier.invalidateCache();
     }
 
     public static Component parseText(@NotNull String text, @Nullable Player player, @NotNull TagResolver... extraResolvers) {
         Locale locale = player != null ? player.locale() : Locale.US;
         List<TagResolver> resolvers = new ArrayList<>(GLOBAL_RESOLVERS);
-        resolvers.addAll(Arrays.asList(extraResolvers));
+        for (TagResolver extra : extraResolvers) {
+            resolvers.add(dynamic(extra));
+        }
 
         if (player != null) {
-            resolvers.add(PlaceholderService.resolve(player));
+            resolvers.add(dynamic(PlaceholderService.resolve(player)));
         }
 
         resolvers.add(GlyphService.resolve());
-        resolvers.add(CustomPlaceholderResolver.resolve(player));
+        resolvers.add(dynamic(CustomPlaceholderResolver.resolve(player)));
 
         resolvers.add(TagResolver.resolver(Set.of("tr", "translate", "lang"), (queue, ctx) -> {
             if (!queue.hasNext()) return Tag.inserting(Component.empty());
@@ -122,16 +355,53 @@ public final class ServerTranslator {
             return Tag.inserting(resolveComponent(Component.translatable(nestedKey).fallback(fallback), player, locale, null, null));
         }));
 
-        return MiniMessageBridge.parse(text, resolvers.toArray(new TagResolver[0]));
+        return parseTemplate(text, locale, resolvers, List.of());
     }
 
     /**
      * Registers a global TagResolver that will be applied to all translated components.
+     * <p>
+     * Its output is treated as live, so text using one of its tags is parsed again every time.
+     * Use {@link #registerGlobalResolver(TagResolver, boolean)} for resolvers whose output never changes.
      *
      * @param resolver The TagResolver to add to the global registry.
      */
     public static void registerGlobalResolver(@NotNull TagResolver resolver) {
-        GLOBAL_RESOLVERS.add(resolver);
+        registerGlobalResolver(resolver, false);
+    }
+
+    /**
+     * Registers a global TagResolver that will be applied to all translated components.
+     *
+     * @param resolver     The TagResolver to add to the global registry.
+     * @param staticOutput Whether the resolver always produces the same output for the same tag,
+     *                     allowing parsed text using it to be cached.
+     */
+    public static void registerGlobalResolver(@NotNull TagResolver resolver, boolean staticOutput) {
+        GLOBAL_RESOLVERS.add(staticOutput ? resolver : dynamic(resolver));
+        TEMPLATES.invalidateAll();
+        ItemPacketModifier.invalidateCache();
+    }
+
+    /**
+     * Resends the inventory of a player so that translated items are rendered again.
+     * <p>
+     * Items are only re-translated when they are sent, so providers and placeholders
+     * whose values change over time should call this when their output changes.
+     *
+     * @param player The player whose items should be refreshed.
+     */
+    public static void refreshItems(@NotNull Player player) {
+        ItemPacketModifier.refresh(player);
+    }
+
+    /**
+     * Discards all cached item translations and resends the inventories of all online players.
+     * <p>
+     * Use this when a cacheable {@link ClientItemModifier} changes its output for every player.
+     */
+    public static void refreshItems() {
+        ItemPacketModifier.invalidateCache();
     }
 
     /**
@@ -211,6 +481,10 @@ public final class ServerTranslator {
                 }
             }
 
+            if (pattern != null) {
+                DYNAMIC.get()[0] = true;
+            }
+
             if (pattern == null) {
                 pattern = TRANSLATOR.getRawTranslation(key, locale);
             }
@@ -220,43 +494,18 @@ public final class ServerTranslator {
             }
 
             if (pattern != null) {
-                List<Component> args = extractArguments(translatable);
-
-                StringBuilder sb = new StringBuilder(pattern);
-
-                for (int i = 0; i < args.size(); i++) {
-                    Component argComp = resolveComponent(args.get(i), player, locale, item, context);
-                    String serialized = MiniMessage.miniMessage().serialize(argComp);
-
-                    replaceInBuilder(sb, "{" + i + "}", serialized);
-                    replaceInBuilder(sb, "%" + (i + 1) + "$s", serialized);
-                    replaceInBuilder(sb, "%" + (i + 1) + "$d", serialized);
-                }
-
-                int sIdx;
-                int argCounter = 0;
-                while ((sIdx = sb.indexOf("%s")) != -1 && argCounter < args.size()) {
-                    Component argComp = resolveComponent(args.get(argCounter), player, locale, item, context);
-                    String serialized = MiniMessage.miniMessage().serialize(argComp);
-                    sb.replace(sIdx, sIdx + 2, serialized);
-                    argCounter++;
-                }
-
-                String parsed = sb.toString();
-
-                for (int i = 0; i < args.size(); i++) {
-                    Component argComp = resolveComponent(args.get(i), player, locale, item, context);
-                    String serialized = MiniMessage.miniMessage().serialize(argComp);
-                    parsed = parsed.replaceAll("\\{" + i + ",[^}]+\\}", Matcher.quoteReplacement(serialized));
+                List<Component> args = new ArrayList<>();
+                for (Component arg : extractArguments(translatable)) {
+                    args.add(resolveComponent(arg, player, locale, item, context));
                 }
 
                 List<TagResolver> resolvers = new ArrayList<>(GLOBAL_RESOLVERS);
                 if (player != null) {
-                    resolvers.add(PlaceholderService.resolve(player));
+                    resolvers.add(dynamic(PlaceholderService.resolve(player)));
                 }
 
                 resolvers.add(GlyphService.resolve());
-                resolvers.add(CustomPlaceholderResolver.resolve(player));
+                resolvers.add(dynamic(CustomPlaceholderResolver.resolve(player)));
 
                 resolvers.add(TagResolver.resolver(Set.of("tr", "translate"), (queue, ctx) -> {
                     if (!queue.hasNext()) return Tag.inserting(Component.empty());
@@ -264,7 +513,7 @@ public final class ServerTranslator {
                     return Tag.inserting(resolveComponent(Component.translatable(nestedKey), player, locale, item, context));
                 }));
 
-                Component rendered = MiniMessageBridge.parse(parsed, resolvers.toArray(new TagResolver[0]));
+                Component rendered = parseTemplate(withArgumentHoles(pattern, args.size()), locale, resolvers, args);
                 List<Component> finalChildren = new ArrayList<>(rendered.children());
                 for (Component child : translatable.children()) {
                     finalChildren.add(resolveComponent(child, player, locale, item, context));
@@ -366,10 +615,12 @@ public final class ServerTranslator {
         }
 
         List<TagResolver> resolvers = new ArrayList<>(GLOBAL_RESOLVERS);
-        resolvers.addAll(Arrays.asList(extraResolvers));
+        for (TagResolver extra : extraResolvers) {
+            resolvers.add(dynamic(extra));
+        }
 
         if (player != null) {
-            resolvers.add(PlaceholderService.resolve(player));
+            resolvers.add(dynamic(PlaceholderService.resolve(player)));
         }
 
         resolvers.add(GlyphService.resolve());
@@ -380,7 +631,7 @@ public final class ServerTranslator {
             return Tag.inserting(resolveComponent(Component.translatable(nestedKey), player, locale, null, null));
         }));
 
-        return MiniMessageBridge.parse(pattern, resolvers.toArray(new TagResolver[0]));
+        return parseTemplate(pattern, locale, resolvers, List.of());
     }
 
     /**
@@ -391,6 +642,7 @@ public final class ServerTranslator {
     public static void loadFile(@NotNull Path path) {
         LanguageLoader.loadFile(path, TRANSLATOR);
         PATH_FILES.add(path);
+        TEMPLATES.invalidateAll();
     }
 
     /**
@@ -402,6 +654,7 @@ public final class ServerTranslator {
     public static void loadResource(@NotNull Plugin plugin, @NotNull String resourcePath) {
         LanguageLoader.loadResource(plugin, resourcePath, TRANSLATOR);
         RESOURCE_FILES.computeIfAbsent(plugin, p -> new ArrayList<>()).add(resourcePath);
+        TEMPLATES.invalidateAll();
     }
 
     /**
@@ -412,4 +665,23 @@ public final class ServerTranslator {
     public static CustomTranslator getSource() {
         return TRANSLATOR;
     }
+
+    /**
+     * Identifies a parsed pattern in the template cache.
+     *
+     * @param pattern   The MiniMessage pattern, with argument placeholders rewritten to argument tags.
+     * @param locale    The locale nested translations were resolved in.
+     * @param arguments The number of translation arguments the pattern was rewritten for.
+     */
+    private record TemplateKey(String pattern, Locale locale, int arguments) {
+    }
+
+    /**
+     * A parsed pattern whose holes are filled in on every render.
+     *
+     * @param tree  The parsed component tree containing hole components.
+     * @param holes The MiniMessage source of each dynamic tag hole, by index.
+     */
+    private record Template(Component tree, List<String> holes) {
+    }
 }
\ No newline at end of file
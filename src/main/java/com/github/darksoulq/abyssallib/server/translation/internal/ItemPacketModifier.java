@@ -10,6 +10,10 @@ import com.google.common.cache.CacheBuilder;
 import com.mojang.datafixers.util.Pair;
 import io.papermc.paper.adventure.PaperAdventure;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.event.HoverEvent;
 import net.minecraft.core.Holder;
 import net.minecraft.core.HolderSet;
 import net.minecraft.core.NonNullList;
@@ -25,7 +29,6 @@ import net.minecraft.server.dialog.*;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.inventory.AbstractContainerMenu;
-import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.component.CustomData;
 import net.minecraft.world.item.component.ItemLore;
@@ -33,7 +36,6 @@ import net.minecraft.world.item.trading.MerchantOffer;
 import net.minecraft.world.item.trading.MerchantOffers;
 import net.minecraft.world.scores.Objective;
 import org.bukkit.Bukkit;
-import org.bukkit.GameMode;
 import org.bukkit.craftbukkit.entity.CraftPlayer;
 import org.bukkit.craftbukkit.inventory.CraftItemStack;
 import org.bukkit.entity.Player;
@@ -43,107 +45,89 @@ import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 public class ItemPacketModifier {
-    private static final Map<UUID, Map<Integer, Integer>> TRANSLATION_STATES = new ConcurrentHashMap<>();
+    private static final Set<UUID> PENDING_REFRESH = ConcurrentHashMap.newKeySet();
+    private static final int REFRESHES_PER_TICK = 32;
+    private static final int BUNDLE_THRESHOLD = 12;
 
-    private static final Cache<UUID, ItemStack> ORIGINAL_ITEMS = CacheBuilder.newBuilder()
-        .maximumSize(20000)
-        .expireAfterAccess(Duration.of(2, ChronoUnit.HOURS))
-        .build();
-    private static final Map<ItemStack, UUID> ITEM_UUID_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final OriginalItemStore ORIGINAL_ITEMS = new OriginalItemStore(32L * 1024 * 1024);
+
+    private static final Pattern LANG_TAG_PATTERN = Pattern.compile("<(?:lang|tr|translate)(?:_or:([^:]+):([^>]+)|:([^>]+))>");
+    private static final List<ClientItemModifier> SHARED_MODIFIERS = new ArrayList<>();
+    private static final List<ClientItemModifier> PLAYER_MODIFIERS = new ArrayList<>();
 
-    private static final Pattern LANG_PATTERN = Pattern.compile("<(?:lang|tr|translate):([^>]+)>");
-    private static final Pattern LANG_OR_PATTERN = Pattern.compile("<(?:lang_or|tr_or|translate_or):([^:]+):([^>]+)>");
-    private static final List<ClientItemModifier> MODIFIERS = new ArrayList<>();
+    private static final Cache<TranslationKey, TranslatedItem> TRANSLATED_ITEMS = CacheBuilder.newBuilder()
+        .maximumSize(8192)
+        .expireAfterAccess(Duration.of(10, ChronoUnit.MINUTES))
+        .build();
+    private static final AtomicLong EPOCH = new AtomicLong();
 
     public static void registerModifier(ClientItemModifier modifier) {
-        MODIFIERS.add(modifier);
+        (modifier.isCacheable() ? SHARED_MODIFIERS : PLAYER_MODIFIERS).add(modifier);
+        invalidateCache();
     }
 
-    public static void clearState(Player player) {
-        if (player != null) {
-            TRANSLATION_STATES.remove(player.getUniqueId());
-        }
+    public static void invalidateCache() {
+        EPOCH.incrementAndGet();
+        TRANSLATED_ITEMS.invalidateAll();
+        refreshAll();
     }
 
-    public static void startUpdater() {
-        AbyssalLib.SCHEDULER.schedule(() -> {
-            TRANSLATION_STATES.keySet().removeIf(uuid -> Bukkit.getPlayer(uuid) == null);
-
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                GameMode gm = player.getGameMode();
-                if (gm == GameMode.CREATIVE || gm == GameMode.SPECTATOR) {
-                    clearState(player);
-                    continue;
-                }
-
-                ServerPlayer sp = ((CraftPlayer) player).getHandle();
-                AbstractContainerMenu menu = sp.containerMenu;
-                Map<Integer, Integer> states = TRANSLATION_STATES.computeIfAbsent(player.getUniqueId(), k -> new ConcurrentHashMap<>());
-                int selectedSlot = sp.getInventory().getSelectedSlot();
-
-                for (int i = 0; i < menu.slots.size(); i++) {
-                    Slot slot = menu.slots.get(i);
-
-                    if (slot.container == sp.getInventory() && slot.getContainerSlot() == selectedSlot) {
-                        continue;
-                    }
+    public static OriginalItemStore.Stats originalItemStats() {
+        return ORIGINAL_ITEMS.stats();
+    }
 
-                    if (slot.hasItem()) {
-                        ItemStack original = slot.getItem();
-                        ItemStack processed = processItemSend(original, player);
+    public static void refresh(Player player) {
+        refresh(player, 1);
+    }
 
-                        int currentState = getTranslationState(processed);
-                        Integer lastState = states.get(i);
+    private static void refresh(Player player, long delay) {
+        if (player == null || !PENDING_REFRESH.add(player.getUniqueId())) return;
+        AbyssalLib.SCHEDULER.schedule(() -> {
+            PENDING_REFRESH.remove(player.getUniqueId());
+            if (player.isOnline()) resync(player);
+        }).entity(player).after(delay, Clock.TICKS).once();
+    }
 
-                        if (lastState == null || currentState != lastState) {
-                            states.put(i, currentState);
-                            sp.connection.send(new ClientboundContainerSetSlotPacket(menu.containerId, menu.getStateId(), i, processed));
-                        }
-                    } else {
-                        Integer removed = states.remove(i);
-                        if (removed != null) {
-                            sp.connection.send(new ClientboundContainerSetSlotPacket(menu.containerId, menu.getStateId(), i, ItemStack.EMPTY));
-                        }
-                    }
-                }
+    private static void resync(Player player) {
+        ServerPlayer handle = ((CraftPlayer) player).getHandle();
+        AbstractContainerMenu menu = handle.containerMenu;
 
-                ItemStack carried = menu.getCarried();
-                if (!carried.isEmpty()) {
-                    ItemStack processedCarried = processItemSend(carried, player);
+        List<Integer> occupied = new ArrayList<>();
+        for (int i = 0; i < menu.slots.size(); i++) {
+            if (!menu.getSlot(i).getItem().isEmpty()) occupied.add(i);
+        }
+        ItemStack carried = menu.getCarried();
+        int changes = occupied.size() + (carried.isEmpty() ? 0 : 1);
+        if (changes == 0) return;
 
-                    int currentState = getTranslationState(processedCarried);
-                    Integer lastState = states.get(-1);
+        if (changes > BUNDLE_THRESHOLD) {
+            menu.sendAllDataToRemote();
+            return;
+        }
 
-                    if (lastState == null || currentState != lastState) {
-                        states.put(-1, currentState);
-                        sp.connection.send(new ClientboundSetCursorItemPacket(processedCarried));
-                    }
-                } else {
-                    Integer removed = states.remove(-1);
-                    if (removed != null) {
-                        sp.connection.send(new ClientboundSetCursorItemPacket(ItemStack.EMPTY));
-                    }
-                }
-            }
-        }).after(AbyssalLib.CONFIG.features.serverTranslationTickDelay.get(), Clock.TICKS).repeatEvery(AbyssalLib.CONFIG.features.serverTranslationTickDelay.get(), Clock.TICKS);
+        List<Packet<? super ClientGamePacketListener>> packets = new ArrayList<>(changes);
+        for (int slot : occupied) {
+            packets.add(new ClientboundContainerSetSlotPacket(menu.containerId, menu.incrementStateId(), slot, menu.getSlot(slot).getItem().copy()));
+        }
+        if (!carried.isEmpty()) packets.add(new ClientboundSetCursorItemPacket(carried.copy()));
+        handle.connection.send(new ClientboundBundlePacket(packets));
     }
 
-    private static int getTranslationState(ItemStack stack) {
-        if (stack == null || stack.isEmpty()) return 0;
-        int hash = 1;
-        net.minecraft.network.chat.Component customName = stack.get(DataComponents.CUSTOM_NAME);
-        if (customName != null) hash = 31 * hash + customName.hashCode();
-
-        net.minecraft.network.chat.Component itemName = stack.get(DataComponents.ITEM_NAME);
-        if (itemName != null) hash = 31 * hash + itemName.hashCode();
-
-        ItemLore lore = stack.get(DataComponents.LORE);
-        if (lore != null) hash = 31 * hash + lore.hashCode();
+    public static void clearState(Player player) {
+        if (player != null) {
+            PENDING_REFRESH.remove(player.getUniqueId());
+        }
+    }
 
-        return hash;
+    public static void refreshAll() {
+        int queued = 0;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            refresh(player, 1 + queued++ / REFRESHES_PER_TICK);
+        }
     }
 
     public static Packet<?> processSend(Packet<?> packet, Player player) {
@@ -492,17 +476,47 @@ public class ItemPacketModifier {
         if (stack == null || stack.isEmpty()) return stack;
 
         ItemStack untranslated = untranslateItem(stack, player);
-        boolean wasUntranslated = (untranslated != stack);
+        ItemStack shared = translateShared(untranslated, stack.getCount(), player);
+        if (PLAYER_MODIFIERS.isEmpty()) return shared;
+
+        ItemStack personal = translateItem(untranslated, shared, player, PLAYER_MODIFIERS, true);
+        return personal != null ? personal : shared;
+    }
+
+    private static ItemStack translateShared(ItemStack untranslated, int count, Player player) {
+        long epoch = EPOCH.get();
+        TranslationKey key = new TranslationKey(ItemStack.hashItemAndComponents(untranslated), player.locale(), epoch);
+        TranslatedItem cached = TRANSLATED_ITEMS.getIfPresent(key);
+        if (cached != null && ItemStack.isSameItemSameComponents(cached.original, untranslated)) {
+            if (cached.translated == null) return untranslated;
+            if (cached.originalId != null && ORIGINAL_ITEMS.contains(cached.originalId)) {
+                return cached.translated.copyWithCount(count);
+            }
+        }
+
+        ServerTranslator.beginTracking();
+        ItemStack translated = translateItem(untranslated, untranslated, player, SHARED_MODIFIERS, false);
+        boolean dynamic = ServerTranslator.endTracking();
+
+        if (!dynamic && EPOCH.get() == epoch) {
+            TRANSLATED_ITEMS.put(key, translated == null
+                ? new TranslatedItem(untranslated.copyWithCount(1), null, null)
+                : new TranslatedItem(untranslated.copyWithCount(1), translated.copyWithCount(1), originalId(translated)));
+        }
+        return translated != null ? translated : untranslated;
+    }
 
-        ItemStack workingCopy = untranslated.copy();
+    private static ItemStack translateItem(ItemStack untranslated, ItemStack source, Player player, List<ClientItemModifier> modifiers, boolean onlyIfModified) {
+        ItemStack workingCopy = source.copy();
         org.bukkit.inventory.ItemStack bukkitStack = CraftItemStack.asCraftMirror(workingCopy);
 
         boolean modified = false;
-        for (ClientItemModifier modifier : MODIFIERS) {
+        for (ClientItemModifier modifier : modifiers) {
             if (modifier.modify(bukkitStack, player)) {
                 modified = true;
             }
         }
+        if (!modified && onlyIfModified) return null;
 
         boolean needsTranslation = false;
         net.minecraft.network.chat.Component customName = workingCopy.get(DataComponents.CUSTOM_NAME);
@@ -545,21 +559,19 @@ public class ItemPacketModifier {
             CustomData existing = workingCopy.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
             CompoundTag rootTag = existing.copyTag();
 
-            UUID id = ITEM_UUID_CACHE.get(untranslated);
-            if (id == null) {
-                id = UUID.randomUUID();
-                ITEM_UUID_CACHE.put(untranslated, id);
-                ORIGINAL_ITEMS.put(id, untranslated.copy());
-            }
-
-            rootTag.putString("OriginalItemId", id.toString());
+            rootTag.putLong("OriginalItemId", ORIGINAL_ITEMS.intern(untranslated));
             rootTag.remove("OriginalItem");
 
             workingCopy.set(DataComponents.CUSTOM_DATA, CustomData.of(rootTag));
             return workingCopy;
         }
 
-        return wasUntranslated ? untranslated : stack;
+        return null;
+    }
+
+    private static Long originalId(ItemStack translated) {
+        CustomData customData = translated.get(DataComponents.CUSTOM_DATA);
+        return customData == null ? null : customData.copyTag().getLong("OriginalItemId").orElse(null);
     }
 
     private static ItemStack untranslateItem(ItemStack stack, Player player) {
@@ -571,17 +583,11 @@ public class ItemPacketModifier {
         CompoundTag rootTag = customData.copyTag();
 
         if (rootTag.contains("OriginalItemId")) {
-            Optional<String> idOpt = rootTag.getString("OriginalItemId");
-            if (idOpt.isPresent()) {
-                try {
-                    UUID id = UUID.fromString(idOpt.get());
-                    ItemStack original = ORIGINAL_ITEMS.getIfPresent(id);
-                    if (original != null) {
-                        ItemStack restored = original.copy();
-                        restored.setCount(stack.getCount());
-                        return restored;
-                    }
-                } catch (IllegalArgumentException ignored) {
+            Optional<Long> id = rootTag.getLong("OriginalItemId");
+            if (id.isPresent()) {
+                ItemStack original = ORIGINAL_ITEMS.get(id.get());
+                if (original != null) {
+                    return original.copyWithCount(stack.getCount());
                 }
             }
         } else if (rootTag.contains("OriginalItem")) {
@@ -601,11 +607,30 @@ public class ItemPacketModifier {
     }
 
     private static Component preProcessTags(Component component) {
-        return component
-            .replaceText(b -> b.match(LANG_PATTERN)
-                .replacement((match, ignored) -> Component.translatable(match.group(1))))
-            .replaceText(b -> b.match(LANG_OR_PATTERN)
-                .replacement((match, ignored) -> Component.translatable(match.group(1)).fallback(match.group(2))));
+        if (!containsLangTag(component)) return component;
+        return component.replaceText(b -> b.match(LANG_TAG_PATTERN)
+            .replacement((match, ignored) -> match.group(3) != null
+                ? Component.translatable(match.group(3))
+                : Component.translatable(match.group(1)).fallback(match.group(2))));
+    }
+
+    private static boolean containsLangTag(Component component) {
+        if (component instanceof TextComponent text) {
+            String content = text.content();
+            if (content.indexOf('<') >= 0 && (content.contains("<lang") || content.contains("<tr"))) return true;
+        } else if (component instanceof TranslatableComponent translatable) {
+            for (TranslationArgument argument : translatable.arguments()) {
+                if (argument.value() instanceof Component value && containsLangTag(value)) return true;
+            }
+        }
+
+        HoverEvent<?> hover = component.hoverEvent();
+        if (hover != null && hover.value() instanceof Component value && containsLangTag(value)) return true;
+
+        for (Component child : component.children()) {
+            if (containsLangTag(child)) return true;
+        }
+        return false;
     }
 
     public static net.minecraft.network.chat.Component translateItemNMS(net.minecraft.network.chat.Component vanilla, Player player, ItemStack stack, ItemTranslationContext context) {
@@ -624,4 +649,10 @@ public class ItemPacketModifier {
         Component translated = ServerTranslator.translate(adventure, player);
         return PaperAdventure.asVanilla(translated);
     }
+
+    private record TranslationKey(int hash, Locale locale, long epoch) {
+    }
+
+    private record TranslatedItem(ItemStack original, ItemStack translated, Long originalId) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,170 @@
+package com.github.darksoulq.abyssallib.server.translation.internal;
+
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the untranslated originals of items sent to clients.
+ * <p>
+ * Items are interned by content, so identical originals share a single entry
+ * and id regardless of how many slots or players they appear in. Both lookup
+ * directions are backed by concurrent maps, so Netty threads never block on
+ * each other. The store is bounded by an estimated size in bytes and drops
+ * entries that were not used recently once that budget is exceeded, using a
+ * second-chance sweep as an approximation of least recently used.
+ * <p>
+ * Ids start at a random offset so that items still held by clients from a
+ * previous run do not resolve to unrelated originals.
+ */
+@ApiStatus.Internal
+public final class OriginalItemStore {
+
+    private static final int ENTRY_OVERHEAD = 256;
+    private static final int COMPONENT_SIZE = 96;
+
+    private final long budget;
+    private final Map<ContentKey, Entry> byContent = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(ThreadLocalRandom.current().nextLong());
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public OriginalItemStore(long budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Returns the id of an item with the same content, storing a copy if none exists yet.
+     *
+     * @param original the untranslated item, its count is ignored
+     * @return the id identifying the content of the item
+     */
+    public long intern(ItemStack original) {
+        Entry entry = byContent.get(new ContentKey(original));
+        if (entry == null) {
+            ItemStack copy = original.copyWithCount(1);
+            Entry created = new Entry(nextId.incrementAndGet(), copy, estimateSize(copy));
+            entry = byContent.putIfAbsent(new ContentKey(copy), created);
+            if (entry == null) {
+                entry = created;
+                byId.put(created.id, created);
+                if (bytes.addAndGet(created.size) > budget) evict();
+            }
+        }
+        if (!entry.referenced) entry.referenced = true;
+        return entry.id;
+    }
+
+    /**
+     * @param id an id returned by {@link #intern(ItemStack)}
+     * @return the stored original with a count of one, which must not be modified, or null if evicted
+     */
+    public @Nullable ItemStack get(long id) {
+        Entry entry = byId.get(id);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        if (!entry.referenced) entry.referenced = true;
+        return entry.item;
+    }
+
+    /**
+     * @param id an id returned by {@link #intern(ItemStack)}
+     * @return true if the original is still stored
+     */
+    public boolean contains(long id) {
+        return byId.containsKey(id);
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), byId.size(), bytes.get(), budget);
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) return;
+        try {
+            long target = budget - budget / 4;
+            for (int pass = 0; pass < 2 && bytes.get() > target; pass++) {
+                Iterator<Entry> it = byId.values().iterator();
+                while (it.hasNext() && bytes.get() > target) {
+                    Entry entry = it.next();
+                    if (entry.referenced) {
+                        entry.referenced = false;
+                        continue;
+                    }
+                    it.remove();
+                    byContent.remove(new ContentKey(entry.item), entry);
+                    bytes.addAndGet(-entry.size);
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static int estimateSize(ItemStack item) {
+        return ENTRY_OVERHEAD + item.getComponentsPatch().size() * COMPONENT_SIZE;
+    }
+
+    /**
+     * Counters describing the effectiveness of the store.
+     *
+     * @param hits      restores that found their original
+     * @param misses    restores whose original had already been evicted
+     * @param evictions entries dropped to stay within the budget
+     * @param entries   number of stored originals
+     * @param bytes     estimated size of all stored originals
+     * @param budget    maximum estimated size before entries are evicted
+     */
+    public record Stats(long hits, long misses, long evictions, int entries, long bytes, long budget) {
+    }
+
+    private static final class Entry {
+        private final long id;
+        private final ItemStack item;
+        private final int size;
+        private volatile boolean referenced = true;
+
+        private Entry(long id, ItemStack item, int size) {
+            this.id = id;
+            this.item = item;
+            this.size = size;
+        }
+    }
+
+    private static final class ContentKey {
+        private final ItemStack item;
+        private final int hash;
+
+        private ContentKey(ItemStack item) {
+            this.item = item;
+            this.hash = ItemStack.hashItemAndComponents(item);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ContentKey other && hash == other.hash && ItemStack.isSameItemSameComponents(item, other.item);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
\ No newline at end of file
@@ -1,9 +1,15 @@
 package com.github.darksoulq.abyssallib.world.block;
 
+import com.github.darksoulq.abyssallib.world.block.internal.BlockManager;
 import com.github.darksoulq.abyssallib.world.entity.AbstractPropertyEntity;
 
 /**
  * Represents the entity data associated with a custom {@link CustomBlock}.
+ * <p>
+ * Block entities are only written back to storage when they are marked dirty.
+ * Setting a {@link com.github.darksoulq.abyssallib.world.block.property.Property} marks the
+ * entity dirty automatically; implementations that mutate a property value in place should
+ * call {@link #markDirty()} so the change is picked up by the next flush.
  */
 public abstract class BlockEntity extends AbstractPropertyEntity<CustomBlock> {
 
@@ -24,4 +30,18 @@ public abstract class BlockEntity extends AbstractPropertyEntity<CustomBlock> {
     public CustomBlock getBlock() {
         return getType();
     }
+
+    /**
+     * Flags this entity as modified so that it is persisted during the next flush.
+     * <p>
+     * Calling this repeatedly before a flush is cheap; the block is written once.
+     */
+    public void markDirty() {
+        BlockManager.markDirty(getBlock());
+    }
+
+    @Override
+    protected void onPropertyChanged() {
+        markDirty();
+    }
 }
\ No newline at end of file
@@ -5,10 +5,9 @@ import com.github.darksoulq.abyssallib.common.serialization.BlockInfo;
 import com.github.darksoulq.abyssallib.server.event.ActionResult;
 import com.github.darksoulq.abyssallib.server.event.custom.block.BlockInteractionEvent;
 import com.github.darksoulq.abyssallib.server.registry.Registries;
-import com.github.darksoulq.abyssallib.server.scheduler.Clock;
-import com.github.darksoulq.abyssallib.server.scheduler.ScheduledTask;
 import com.github.darksoulq.abyssallib.server.util.regional.Locatable;
 import com.github.darksoulq.abyssallib.world.block.internal.BlockManager;
+import com.github.darksoulq.abyssallib.world.block.internal.BlockTicker;
 import com.github.darksoulq.abyssallib.world.data.loot.LootTable;
 import com.github.darksoulq.abyssallib.world.data.tag.impl.BlockTag;
 import com.github.darksoulq.abyssallib.world.item.Item;
@@ -64,9 +63,9 @@ public class CustomBlock implements Cloneable, Locatable {
     private BlockEntity entity;
 
     /**
-     * The task handling ticking execution sequentially.
+     * Whether this block is currently registered with the block tick engine.
      */
-    private ScheduledTask tickTask;
+    private volatile boolean ticking;
 
     /**
      * The physical and interaction properties of this block.
@@ -152,6 +151,7 @@ public class CustomBlock implements Cloneable, Locatable {
     @ApiStatus.Internal
     public void setEntity(BlockEntity entity) {
         this.entity = entity;
+        if (entity != null) entity.bindProperties();
     }
 
     /**
@@ -281,7 +281,7 @@ public class CustomBlock implements Cloneable, Locatable {
      */
     public static CustomBlock resolve(Block block) {
         if (block == null) return null;
-        return BlockManager.get(block.getLocation());
+        return BlockManager.get(block.getWorld(), block.getX(), block.getY(), block.getZ());
     }
 
     /**
@@ -336,7 +336,9 @@ public class CustomBlock implements Cloneable, Locatable {
     @Override
     public CustomBlock clone() {
         try {
-            return (CustomBlock) super.clone();
+            CustomBlock clone = (CustomBlock) super.clone();
+            clone.ticking = false;
+            return clone;
         } catch (CloneNotSupportedException e) {
             throw new RuntimeException(e);
         }
@@ -358,45 +360,55 @@ public class CustomBlock implements Cloneable, Locatable {
 
     /**
      * Called every server tick. Override to provide active logic.
+     * <p>
+     * Only blocks that override this method or {@link #onRandomTick()} are ticked at all.
      */
     public void onTick() {
     }
 
     /**
      * Called during a random world tick.
+     * <p>
+     * Random ticks follow vanilla section sampling, so a block is picked on average
+     * {@code randomTickSpeed / 4096} times per tick.
      */
     public void onRandomTick() {
     }
 
     /**
-     * Intelligently starts regional tick evaluations.
+     * Registers this block with the chunk it is in on the shared block tick engine.
+     * Blocks that override neither tick method are never registered.
      */
     protected void startTicking() {
-        if (tickTask == null && location != null) {
-            tickTask = AbyssalLib.SCHEDULER.schedule(() -> {
-                if (location.getBlock().getType() != material) {
-                    stopTicking();
-                    BlockManager.remove(location);
-                    return;
-                }
-
-                onTick();
-
-                if (ThreadLocalRandom.current().nextFloat() < 0.001f) {
-                    onRandomTick();
-                }
-            }).region(location).repeatEvery(1, Clock.TICKS);
-        }
+        if (ticking || location == null) return;
+        ticking = true;
+        if (!BlockTicker.add(this)) ticking = false;
     }
 
     /**
-     * Disengages logic evaluators cancelling any regional task links.
+     * Removes this block from the block tick engine.
      */
     protected void stopTicking() {
-        if (tickTask != null) {
-            tickTask.cancel();
-            tickTask = null;
-        }
+        ticking = false;
+    }
+
+    /**
+     * Marks this block as no longer registered after the block tick engine dropped it,
+     * so that a later {@link #startTicking()} registers it again.
+     */
+    @ApiStatus.Internal
+    public void clearTicking() {
+        ticking = false;
+    }
+
+    /**
+     * Checks whether this block is currently registered with the block tick engine.
+     *
+     * @return true if ticking
+     */
+    @ApiStatus.Internal
+    public boolean isTicking() {
+        return ticking;
     }
 
     /**
@@ -0,0 +1,174 @@
+package com.github.darksoulq.abyssallib.world.block.internal;
+
+import com.github.darksoulq.abyssallib.world.block.CustomBlock;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+
+@ApiStatus.Internal
+public final class BlockIndex {
+
+    private static final int STRIPES = 64;
+    private static final int AREA_SHIFT = 3;
+
+    private final Map<UUID, WorldIndex> worlds = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public static long pack(int x, int y, int z) {
+        return (((long) x & 0x3FFFFFFL) << 38) | (((long) z & 0x3FFFFFFL) << 12) | ((long) y & 0xFFFL);
+    }
+
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX & 0xFFFFFFFFL) | (((long) chunkZ & 0xFFFFFFFFL) << 32);
+    }
+
+    public CustomBlock get(World world, int x, int y, int z) {
+        WorldIndex index = worlds.get(world.getUID());
+        if (index == null) return null;
+
+        long key = chunkKey(x >> 4, z >> 4);
+        Stripe stripe = index.stripe(x >> 4, z >> 4);
+        long stamp = stripe.lock.readLock();
+        try {
+            Long2ObjectMap<CustomBlock> chunk = stripe.chunks.get(key);
+            return chunk == null ? null : chunk.get(pack(x, y, z));
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean contains(World world, int x, int y, int z) {
+        return get(world, x, y, z) != null;
+    }
+
+    public CustomBlock put(CustomBlock block) {
+        return put(block, false);
+    }
+
+    public CustomBlock putIfAbsent(CustomBlock block) {
+        return put(block, true);
+    }
+
+    private CustomBlock put(CustomBlock block, boolean onlyIfAbsent) {
+        Location loc = block.getLocation();
+        WorldIndex index = worlds.computeIfAbsent(loc.getWorld().getUID(), k -> new WorldIndex());
+        int x = loc.getBlockX();
+        int z = loc.getBlockZ();
+
+        Stripe stripe = index.stripe(x >> 4, z >> 4);
+        long stamp = stripe.lock.writeLock();
+        try {
+            Long2ObjectMap<CustomBlock> chunk = stripe.chunks.computeIfAbsent(chunkKey(x >> 4, z >> 4), k -> new Long2ObjectOpenHashMap<>());
+            long pos = pack(x, loc.getBlockY(), z);
+            CustomBlock previous = chunk.get(pos);
+            if (previous != null && onlyIfAbsent) return previous;
+
+            chunk.put(pos, block);
+            if (previous == null) size.incrementAndGet();
+            return previous;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    public CustomBlock remove(World world, int x, int y, int z) {
+        WorldIndex index = worlds.get(world.getUID());
+        if (index == null) return null;
+
+        Stripe stripe = index.stripe(x >> 4, z >> 4);
+        long stamp = stripe.lock.writeLock();
+        try {
+            long key = chunkKey(x >> 4, z >> 4);
+            Long2ObjectMap<CustomBlock> chunk = stripe.chunks.get(key);
+            if (chunk == null) return null;
+
+            CustomBlock removed = chunk.remove(pack(x, y, z));
+            if (removed != null) {
+                size.decrementAndGet();
+                if (chunk.isEmpty()) stripe.chunks.remove(key);
+            }
+            return removed;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean remove(CustomBlock block) {
+        Location loc = block.getLocation();
+        if (loc == null) return false;
+        WorldIndex index = worlds.get(loc.getWorld().getUID());
+        if (index == null) return false;
+
+        int chunkX = loc.getBlockX() >> 4;
+        int chunkZ = loc.getBlockZ() >> 4;
+        Stripe stripe = index.stripe(chunkX, chunkZ);
+        long stamp = stripe.lock.writeLock();
+        try {
+            long key = chunkKey(chunkX, chunkZ);
+            Long2ObjectMap<CustomBlock> chunk = stripe.chunks.get(key);
+            if (chunk == null) return false;
+
+            long pos = pack(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+            if (chunk.get(pos) != block) return false;
+            chunk.remove(pos);
+            size.decrementAndGet();
+            if (chunk.isEmpty()) stripe.chunks.remove(key);
+            return true;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    public List<CustomBlock> getChunk(World world, int chunkX, int chunkZ) {
+        WorldIndex index = worlds.get(world.getUID());
+        if (index == null) return new ArrayList<>();
+
+        Stripe stripe = index.stripe(chunkX, chunkZ);
+        long stamp = stripe.lock.readLock();
+        try {
+            Long2ObjectMap<CustomBlock> chunk = stripe.chunks.get(chunkKey(chunkX, chunkZ));
+            return chunk == null ? new ArrayList<>() : new ArrayList<>(chunk.values());
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    private static final class WorldIndex {
+        private final Stripe[] stripes = new Stripe[STRIPES];
+
+        private WorldIndex() {
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new Stripe();
+            }
+        }
+
+        private Stripe stripe(int chunkX, int chunkZ) {
+            int areaX = chunkX >> AREA_SHIFT;
+            int areaZ = chunkZ >> AREA_SHIFT;
+            return stripes[((areaX * 31) ^ areaZ) & (STRIPES - 1)];
+        }
+    }
+
+    private static final class Stripe {
+        private final StampedLock lock = new StampedLock();
+        private final Long2ObjectMap<Long2ObjectMap<CustomBlock>> chunks = new Long2ObjectOpenHashMap<>();
+    }
+}
\ No newline at end of file
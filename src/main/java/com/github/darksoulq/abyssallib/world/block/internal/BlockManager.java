@@ -1,11 +1,13 @@
 package com.github.darksoulq.abyssallib.world.block.internal;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.github.darksoulq.abyssallib.AbyssalLib;
 import com.github.darksoulq.abyssallib.common.database.relational.sql.BatchQuery;
 import com.github.darksoulq.abyssallib.common.database.relational.sql.Database;
 import com.github.darksoulq.abyssallib.common.serialization.DataResult;
+import com.github.darksoulq.abyssallib.common.serialization.DynamicOps;
+import com.github.darksoulq.abyssallib.common.serialization.fixer.DataFixers;
+import com.github.darksoulq.abyssallib.common.serialization.ops.ByteOps;
 import com.github.darksoulq.abyssallib.common.serialization.ops.JsonOps;
 import com.github.darksoulq.abyssallib.common.util.TextUtil;
 import com.github.darksoulq.abyssallib.common.util.Try;
@@ -13,17 +15,17 @@ import com.github.darksoulq.abyssallib.server.registry.Registries;
 import com.github.darksoulq.abyssallib.server.scheduler.Clock;
 import com.github.darksoulq.abyssallib.server.util.regional.Locatable;
 import com.github.darksoulq.abyssallib.server.util.regional.RegionKey;
-import com.github.darksoulq.abyssallib.server.util.regional.RegionalHashMap;
 import com.github.darksoulq.abyssallib.world.block.BlockEntity;
 import com.github.darksoulq.abyssallib.world.block.CustomBlock;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
+import org.bukkit.World;
 
 import java.io.File;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import java.sql.ResultSet;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class BlockManager {
 
@@ -49,96 +51,205 @@ public class BlockManager {
         }
     }
 
-    public static final RegionalHashMap<BlockPos, CustomBlock> BLOCKS = new RegionalHashMap<>(true);
-    private static Database DATABASE;
+    public static final BlockIndex BLOCKS = new BlockIndex();
+    private static final JsonMapper JSON_MAPPER = new JsonMapper();
+    private static final Map<RegionKey, Map<BlockPos, CustomBlock>> DIRTY = new ConcurrentHashMap<>();
+    private static final Set<BlockPos> REMOVED = ConcurrentHashMap.newKeySet();
+    private static final Set<RegionKey> LOADED_CHUNKS = ConcurrentHashMap.newKeySet();
+    private static volatile Database DATABASE;
 
     public static void load() {
-        AbyssalLib.SCHEDULER.schedule(() -> {
+        AbyssalLib.SCHEDULER.schedule(() -> Try.run(() -> {
             int saved = BlockManager.save();
             if (saved > 0) {
-                AbyssalLib.LOGGER.info("Saved " + saved + " blocks");
+                AbyssalLib.LOGGER.fine("Flushed " + saved + " block changes");
             }
-        }).async().after(2400L, Clock.TICKS).repeatEvery(6000L, Clock.TICKS);
+        }).onFailure(t -> AbyssalLib.LOGGER.warning("Failed to flush block changes: " + t.getMessage()))).async("database").after(200L, Clock.TICKS).repeatEvery(200L, Clock.TICKS);
 
         AbyssalLib.SCHEDULER.schedule(() -> {
             Try.run(() -> {
-                DATABASE = new Database(new File(AbyssalLib.getInstance().getDataFolder(), "blocks.db"));
-                DATABASE.connect();
-                DATABASE.executor().create("blocks")
+                Database database = new Database(new File(AbyssalLib.getInstance().getDataFolder(), "blocks.db"));
+                database.connect();
+                database.executor().create("blocks")
                     .ifNotExists()
                     .column("world", "TEXT")
                     .column("x", "INTEGER")
                     .column("y", "INTEGER")
                     .column("z", "INTEGER")
+                    .column("chunk_x", "INTEGER")
+                    .column("chunk_z", "INTEGER")
                     .column("block_id", "TEXT")
                     .column("data", "TEXT")
+                    .column("payload", "BLOB")
+                    .column("version", "INTEGER")
                     .primaryKey("world", "x", "y", "z")
                     .execute();
 
+                if (!hasColumn(database, "blocks", "chunk_x")) {
+                    database.executor().executeRaw("ALTER TABLE blocks ADD COLUMN chunk_x INTEGER");
+                    database.executor().executeRaw("ALTER TABLE blocks ADD COLUMN chunk_z INTEGER");
+                    database.executor().executeRaw("UPDATE blocks SET chunk_x = x >> 4, chunk_z = z >> 4");
+                }
+                if (!hasColumn(database, "blocks", "payload")) {
+                    database.executor().executeRaw("ALTER TABLE blocks ADD COLUMN payload BLOB");
+                    database.executor().executeRaw("ALTER TABLE blocks ADD COLUMN version INTEGER");
+                }
+                database.executor().executeRaw("CREATE INDEX IF NOT EXISTS blocks_chunk ON blocks (world, chunk_x, chunk_z)");
+
                 TextUtil.buildGson();
 
-                List<BlockRow> rows = DATABASE.executor().table("blocks").select(rs -> {
-                    String world = rs.getString("world");
-                    int x = rs.getInt("x");
-                    int y = rs.getInt("y");
-                    int z = rs.getInt("z");
-                    String blockId = rs.getString("block_id");
-                    String dataJson = rs.getString("data");
-                    return new BlockRow(world, x, y, z, blockId, dataJson);
-                });
-
-                AbyssalLib.SCHEDULER.schedule(() -> {
-                    for (BlockRow row : rows) {
-                        if (Bukkit.getWorld(row.world) == null) continue;
-
-                        Location loc = new Location(Bukkit.getWorld(row.world), row.x, row.y, row.z);
-
-                        if (!Registries.BLOCKS.contains(row.blockId)) {
-                            AbyssalLib.getInstance().getLogger().warning("Unknown block id in DB: " + row.blockId);
-                            continue;
-                        }
-
-                        CustomBlock block = Registries.BLOCKS.get(row.blockId).clone();
-                        block.setLocation(loc);
-
-                        BlockEntity entity = block.createBlockEntity(loc);
-                        if (entity != null) {
-                            Try.run(() -> {
-                                DataResult<Void> res = entity.deserialize(JsonOps.INSTANCE, new JsonMapper().readTree(row.dataJson));
-                                if (res.isError()) {
-                                    AbyssalLib.LOGGER.warning("Failed to deserialize block entity at " + loc + ": " + res.error().get());
-                                } else if (res.isPartial()) {
-                                    res.warnings().forEach(w -> AbyssalLib.LOGGER.warning("Warning deserializing block entity at " + loc + ": " + w.message()));
-                                }
-                                entity.onLoad();
-                                block.setEntity(entity);
-                            }).onFailure(Throwable::printStackTrace);
-                        }
-
-                        block.onLoad();
-                        BLOCKS.put(new BlockPos(loc), block);
-                    }
+                List<ChunkRow> chunks = database.executor().table("blocks")
+                    .select(rs -> new ChunkRow(rs.getString("world"), rs.getInt("chunk_x"), rs.getInt("chunk_z")),
+                        "DISTINCT world", "chunk_x", "chunk_z");
+
+                DATABASE = database;
 
-                    AbyssalLib.LOGGER.info("Loaded " + BLOCKS.size() + " Blocks.");
-                }).global().once();
+                for (ChunkRow chunk : chunks) {
+                    World world = Bukkit.getWorld(chunk.world);
+                    if (world == null) continue;
+
+                    AbyssalLib.SCHEDULER.schedule(() -> {
+                        if (!world.isChunkLoaded(chunk.chunkX, chunk.chunkZ)) return;
+                        LOADED_CHUNKS.add(new RegionKey(world.getUID(), chunk.chunkX, chunk.chunkZ));
+                        fetchChunk(world, chunk.chunkX, chunk.chunkZ);
+                    }).region(chunkOrigin(world, chunk.chunkX, chunk.chunkZ)).once();
+                }
+
+                AbyssalLib.LOGGER.info("Indexed custom blocks in " + chunks.size() + " chunks.");
             }).onFailure(t -> {
                 AbyssalLib.getInstance().getLogger().severe("Failed to load block database: " + t.getMessage());
                 t.printStackTrace();
             });
-        }).async().once();
+        }).async("database").once();
+    }
+
+    public static void loadChunk(Chunk chunk, boolean newChunk) {
+        World world = chunk.getWorld();
+        if (!LOADED_CHUNKS.add(new RegionKey(world.getUID(), chunk.getX(), chunk.getZ()))) return;
+        if (newChunk || DATABASE == null) return;
+
+        fetchChunk(world, chunk.getX(), chunk.getZ());
+    }
+
+    public static void unloadChunk(Chunk chunk) {
+        RegionKey key = new RegionKey(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ());
+        LOADED_CHUNKS.remove(key);
+
+        for (CustomBlock block : BLOCKS.getChunk(chunk.getWorld(), chunk.getX(), chunk.getZ())) {
+            if (BLOCKS.remove(block)) {
+                block.onUnLoad();
+            }
+        }
+    }
+
+    private static void fetchChunk(World world, int chunkX, int chunkZ) {
+        RegionKey key = new RegionKey(world.getUID(), chunkX, chunkZ);
+
+        AbyssalLib.SCHEDULER.schedule(() -> {
+            List<BlockRow> rows = Try.of(() -> DATABASE.executor().table("blocks")
+                .where("world = ? AND chunk_x = ? AND chunk_z = ?", world.getName(), chunkX, chunkZ)
+                .select(rs -> new BlockRow(
+                    rs.getString("world"),
+                    rs.getInt("x"),
+                    rs.getInt("y"),
+                    rs.getInt("z"),
+                    rs.getString("block_id"),
+                    rs.getString("data"),
+                    rs.getBytes("payload"),
+                    rs.getInt("version")
+                ))).onFailure(t -> AbyssalLib.LOGGER.warning("Failed to load blocks in chunk " + chunkX + ", " + chunkZ + ": " + t.getMessage()))
+                .orElse(null);
+            if (rows == null) return;
+
+            AbyssalLib.SCHEDULER.schedule(() -> {
+                if (!LOADED_CHUNKS.contains(key)) return;
+
+                Map<BlockPos, CustomBlock> pending = DIRTY.get(key);
+                if (pending != null) pending.values().forEach(BlockManager::restore);
+
+                for (BlockRow row : rows) {
+                    if (BLOCKS.contains(world, row.x, row.y, row.z)) continue;
+                    Location loc = new Location(world, row.x, row.y, row.z);
+                    BlockPos pos = new BlockPos(loc);
+                    if (REMOVED.contains(pos) || isDirty(pos)) continue;
+
+                    CustomBlock block = instantiate(row, loc);
+                    if (block == null) continue;
+                    restore(block);
+                    if (row.dataJson != null || row.version < DataFixers.FIXERS.getTargetVersion()) {
+                        markDirty(block);
+                    }
+                }
+            }).region(chunkOrigin(world, chunkX, chunkZ)).once();
+        }).async("database").once();
+    }
+
+    private static void restore(CustomBlock block) {
+        Location loc = block.getLocation();
+        if (loc == null) return;
+
+        if (BLOCKS.putIfAbsent(block) == null) {
+            block.onLoad();
+        }
+    }
+
+    private static CustomBlock instantiate(BlockRow row, Location loc) {
+        if (!Registries.BLOCKS.contains(row.blockId)) {
+            AbyssalLib.getInstance().getLogger().warning("Unknown block id in DB: " + row.blockId);
+            return null;
+        }
+
+        CustomBlock block = Registries.BLOCKS.get(row.blockId).clone();
+        block.setLocation(loc);
+
+        BlockEntity entity = block.createBlockEntity(loc);
+        if (entity != null) {
+            Try.run(() -> {
+                DataResult<Void> res = row.payload != null
+                    ? decode(entity, ByteOps.INSTANCE, row.payload, row.version)
+                    : decode(entity, JsonOps.INSTANCE, JSON_MAPPER.readTree(row.dataJson == null ? "{}" : row.dataJson), row.version);
+                if (res.isError()) {
+                    AbyssalLib.LOGGER.warning("Failed to deserialize block entity at " + loc + ": " + res.error().get());
+                } else if (res.isPartial()) {
+                    res.warnings().forEach(w -> AbyssalLib.LOGGER.warning("Warning deserializing block entity at " + loc + ": " + w.message()));
+                }
+                entity.onLoad();
+                block.setEntity(entity);
+            }).onFailure(Throwable::printStackTrace);
+        }
+        return block;
+    }
+
+    private static <D> DataResult<Void> decode(BlockEntity entity, DynamicOps<D> ops, D input, int version) {
+        return entity.deserialize(ops, DataFixers.FIXERS.update(ops, DataFixers.BLOCK_ENTITY, version, input));
+    }
+
+    private static Location chunkOrigin(World world, int chunkX, int chunkZ) {
+        return new Location(world, chunkX << 4, 0, chunkZ << 4);
+    }
+
+    private static boolean hasColumn(Database database, String table, String column) throws Exception {
+        try (ResultSet rs = database.getConnection().getMetaData().getColumns(null, null, table, column)) {
+            return rs.next();
+        }
     }
 
     public static void register(CustomBlock block) {
         Location loc = block.getLocation();
         if (loc == null) return;
 
-        BLOCKS.put(new BlockPos(loc), block);
-        save(block);
+        BLOCKS.put(block);
+        markDirty(block);
     }
 
     public static CustomBlock get(Location loc) {
         if (loc == null) return null;
-        return BLOCKS.get(new BlockPos(loc));
+        return BLOCKS.get(loc.getWorld(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    }
+
+    public static CustomBlock get(World world, int x, int y, int z) {
+        if (world == null) return null;
+        return BLOCKS.get(world, x, y, z);
     }
 
     public static void remove(CustomBlock block) {
@@ -148,113 +259,137 @@ public class BlockManager {
     public static void remove(Location loc) {
         if (loc == null) return;
 
-        CustomBlock block = BLOCKS.remove(new BlockPos(loc));
+        BlockPos pos = new BlockPos(loc.clone());
+        CustomBlock block = BLOCKS.remove(loc.getWorld(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
         if (block != null) {
             block.onUnLoad();
         }
 
-        AbyssalLib.SCHEDULER.schedule(() -> {
-            DATABASE.executor().table("blocks").delete()
-                .where("world = ? AND x = ? AND y = ? AND z = ?",
-                    loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ())
-                .execute();
-        }).async().once();
+        DIRTY.computeIfPresent(RegionKey.of(pos), (k, chunk) -> {
+            chunk.remove(pos);
+            return chunk.isEmpty() ? null : chunk;
+        });
+        REMOVED.add(pos);
+    }
+
+    public static void markDirty(CustomBlock block) {
+        Location loc = block.getLocation();
+        if (loc == null) return;
+
+        BlockPos pos = new BlockPos(loc.clone());
+        REMOVED.remove(pos);
+        putDirty(pos, block, true);
+    }
+
+    private static void putDirty(BlockPos pos, CustomBlock block, boolean replace) {
+        DIRTY.compute(RegionKey.of(pos), (k, chunk) -> {
+            if (chunk == null) chunk = new ConcurrentHashMap<>();
+            if (replace) chunk.put(pos, block);
+            else chunk.putIfAbsent(pos, block);
+            return chunk;
+        });
+    }
+
+    private static boolean isDirty(BlockPos pos) {
+        Map<BlockPos, CustomBlock> chunk = DIRTY.get(RegionKey.of(pos));
+        return chunk != null && chunk.containsKey(pos);
     }
 
     public static void save(CustomBlock block) {
-        AbyssalLib.SCHEDULER.schedule(() -> {
-            Location loc = block.getLocation();
-            if (loc == null) return;
-
-            BlockEntity entity = block.getEntity();
-            String json;
-
-            if (entity != null) {
-                entity.onSave();
-                JsonNode node = Try.of(() -> {
-                    DataResult<JsonNode> res = entity.serialize(JsonOps.INSTANCE);
-                    if (res.isError()) {
-                        AbyssalLib.LOGGER.warning("Failed to serialize block entity at " + loc + ": " + res.error().get());
-                        return null;
-                    }
-                    if (res.isPartial()) {
-                        res.warnings().forEach(w -> AbyssalLib.LOGGER.warning("Warning serializing block entity at " + loc + ": " + w.message()));
-                    }
-                    return res.getOrThrow();
-                }).orElse(null);
-                if (node == null) return;
-                json = node.toString();
-            } else {
-                json = "{}";
-            }
-            DATABASE.executor().table("blocks").replace()
-                .value("world", loc.getWorld().getName())
-                .value("x", loc.getBlockX())
-                .value("y", loc.getBlockY())
-                .value("z", loc.getBlockZ())
-                .value("block_id", block.getId().toString())
-                .value("data", json)
-                .execute();
-        }).async().once();
+        markDirty(block);
     }
 
     public static int save() {
-        if (BLOCKS.isEmpty()) return 0;
-        return DATABASE.transactionResult(executor -> {
-            BatchQuery batch = executor.table("blocks")
-                .batch("world", "x", "y", "z", "block_id", "data")
-                .replace();
-
-            int count = 0;
-
-            for (CustomBlock block : BLOCKS.values()) {
-                Location loc = block.getLocation();
-                if (loc == null) continue;
-
-                BlockEntity entity = block.getEntity();
-                String json;
-
-                if (entity != null) {
-                    entity.onSave();
-                    JsonNode node = Try.of(() -> {
-                        DataResult<JsonNode> res = entity.serialize(JsonOps.INSTANCE);
-                        if (res.isError()) {
-                            AbyssalLib.LOGGER.warning("Failed to serialize block entity at " + loc + ": " + res.error().get());
-                            return null;
-                        }
-                        if (res.isPartial()) {
-                            res.warnings().forEach(w -> AbyssalLib.LOGGER.warning("Warning serializing block entity at " + loc + ": " + w.message()));
-                        }
-                        return res.getOrThrow();
-                    }).orElse(null);
-                    if (node == null) continue;
-                    json = node.toString();
-                } else {
-                    json = "{}";
+        if (DATABASE == null) return 0;
+        if (DIRTY.isEmpty() && REMOVED.isEmpty()) return 0;
+
+        Map<BlockPos, CustomBlock> dirty = new HashMap<>();
+        for (RegionKey key : DIRTY.keySet()) {
+            Map<BlockPos, CustomBlock> chunk = DIRTY.remove(key);
+            if (chunk != null) dirty.putAll(chunk);
+        }
+        List<BlockPos> removed = new ArrayList<>();
+        for (BlockPos pos : REMOVED) {
+            if (REMOVED.remove(pos)) removed.add(pos);
+        }
+
+        try {
+            return DATABASE.transactionResult(executor -> {
+                for (BlockPos pos : removed) {
+                    Location loc = pos.location();
+                    executor.table("blocks").delete()
+                        .where("world = ? AND x = ? AND y = ? AND z = ?",
+                            loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ())
+                        .execute();
                 }
-                batch.add(
-                    loc.getWorld().getName(),
-                    loc.getBlockX(),
-                    loc.getBlockY(),
-                    loc.getBlockZ(),
-                    block.getId().toString(),
-                    json
-                );
-                count++;
-            }
 
-            if (count > 0) {
-                batch.execute();
+                BatchQuery batch = executor.table("blocks")
+                    .batch("world", "x", "y", "z", "chunk_x", "chunk_z", "block_id", "data", "payload", "version")
+                    .replace();
+
+                int count = 0;
+                for (Map.Entry<BlockPos, CustomBlock> entry : dirty.entrySet()) {
+                    Location loc = entry.getKey().location();
+                    CustomBlock block = entry.getValue();
+                    byte[] payload = encode(block, loc);
+                    if (payload == null) continue;
+
+                    batch.add(
+                        loc.getWorld().getName(),
+                        loc.getBlockX(),
+                        loc.getBlockY(),
+                        loc.getBlockZ(),
+                        loc.getBlockX() >> 4,
+                        loc.getBlockZ() >> 4,
+                        block.getId().toString(),
+                        null,
+                        payload.length == 0 ? null : payload,
+                        DataFixers.FIXERS.getTargetVersion()
+                    );
+                    count++;
+                }
+
+                if (count > 0) {
+                    batch.execute();
+                }
+                return count + removed.size();
+            });
+        } catch (RuntimeException e) {
+            dirty.forEach((pos, block) -> {
+                if (!REMOVED.contains(pos)) putDirty(pos, block, false);
+            });
+            removed.forEach(pos -> {
+                if (!isDirty(pos)) REMOVED.add(pos);
+            });
+            throw e;
+        }
+    }
+
+    private static byte[] encode(CustomBlock block, Location loc) {
+        BlockEntity entity = block.getEntity();
+        if (entity == null) return new byte[0];
+
+        entity.onSave();
+        return Try.of(() -> {
+            DataResult<byte[]> res = entity.serialize(ByteOps.INSTANCE);
+            if (res.isError()) {
+                AbyssalLib.LOGGER.warning("Failed to serialize block entity at " + loc + ": " + res.error().get());
+                return null;
             }
-            return count;
-        });
+            if (res.isPartial()) {
+                res.warnings().forEach(w -> AbyssalLib.LOGGER.warning("Warning serializing block entity at " + loc + ": " + w.message()));
+            }
+            return res.getOrThrow();
+        }).orElse(null);
     }
 
     public static List<CustomBlock> getBlocksInChunk(Chunk chunk) {
-        RegionKey key = new RegionKey(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ());
-        return new ArrayList<>(BLOCKS.getRegion(key).values());
+        return BLOCKS.getChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
+    }
+
+    private record BlockRow(String world, int x, int y, int z, String blockId, String dataJson, byte[] payload, int version) {
     }
 
-    private record BlockRow(String world, int x, int y, int z, String blockId, String dataJson) {
+    private record ChunkRow(String world, int chunkX, int chunkZ) {
     }
 }
\ No newline at end of file
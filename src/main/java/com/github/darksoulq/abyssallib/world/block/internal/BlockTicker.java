@@ -0,0 +1,264 @@
+package com.github.darksoulq.abyssallib.world.block.internal;
+
+import com.github.darksoulq.abyssallib.AbyssalLib;
+import com.github.darksoulq.abyssallib.server.scheduler.Clock;
+import com.github.darksoulq.abyssallib.server.scheduler.ScheduledTask;
+import com.github.darksoulq.abyssallib.server.util.regional.RegionalCollections;
+import com.github.darksoulq.abyssallib.world.block.CustomBlock;
+import org.bukkit.Bukkit;
+import org.bukkit.GameRule;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+@ApiStatus.Internal
+public final class BlockTicker {
+
+    private static final int TICKS = 1;
+    private static final int RANDOM_TICKS = 2;
+    private static final int SECTOR_SHIFT = 3;
+    private static final int VERIFY_INTERVAL = 20;
+
+    private static final ClassValue<Integer> MODES = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            int mode = 0;
+            try {
+                if (type.getMethod("onTick").getDeclaringClass() != CustomBlock.class) mode |= TICKS;
+                if (type.getMethod("onRandomTick").getDeclaringClass() != CustomBlock.class) mode |= RANDOM_TICKS;
+            } catch (NoSuchMethodException ignored) {
+            }
+            return mode;
+        }
+    };
+
+    private static final Map<SectorKey, Sector> SECTORS = new ConcurrentHashMap<>();
+    private static ScheduledTask globalTask;
+
+    private BlockTicker() {
+    }
+
+    public static boolean add(CustomBlock block) {
+        Location loc = block.getLocation();
+        if (loc == null || loc.getWorld() == null) return false;
+        if (MODES.get(block.getClass()) == 0) return false;
+
+        World world = loc.getWorld();
+        int chunkX = loc.getBlockX() >> 4;
+        int chunkZ = loc.getBlockZ() >> 4;
+        Sector sector = RegionalCollections.IS_FOLIA ? SECTORS.get(new SectorKey(world.getUID(), chunkX, chunkZ, 0)) : null;
+        if (sector == null) {
+            SectorKey key = new SectorKey(world.getUID(), chunkX >> SECTOR_SHIFT, chunkZ >> SECTOR_SHIFT, SECTOR_SHIFT);
+            sector = SECTORS.computeIfAbsent(key, k -> new Sector(world, k));
+        }
+
+        sector.enqueue(chunkX, chunkZ, List.of(block));
+        return true;
+    }
+
+    private static synchronized void startGlobal() {
+        if (globalTask != null) return;
+        globalTask = AbyssalLib.SCHEDULER.schedule(() -> {
+            for (Sector sector : SECTORS.values()) {
+                sector.tick();
+            }
+        }).repeatEvery(1, Clock.TICKS);
+    }
+
+    private static int randomKey(Location loc) {
+        return ((loc.getBlockY() >> 4) << 12) | ((loc.getBlockY() & 15) << 8) | ((loc.getBlockZ() & 15) << 4) | (loc.getBlockX() & 15);
+    }
+
+    private record SectorKey(UUID world, int sectorX, int sectorZ, int shift) {
+    }
+
+    private static final class Sector {
+        private final World world;
+        private final SectorKey key;
+        private final Map<Long, ChunkTicks> chunks = new ConcurrentHashMap<>();
+        private ScheduledTask task;
+
+        private Sector(World world, SectorKey key) {
+            this.world = world;
+            this.key = key;
+        }
+
+        private void enqueue(int chunkX, int chunkZ, Collection<CustomBlock> blocks) {
+            chunks.computeIfAbsent(BlockIndex.chunkKey(chunkX, chunkZ), k -> new ChunkTicks(chunkX, chunkZ)).added.addAll(blocks);
+            start();
+        }
+
+        private synchronized void start() {
+            if (!RegionalCollections.IS_FOLIA) {
+                startGlobal();
+                return;
+            }
+            if (task != null) return;
+
+            Location origin = new Location(world, (key.sectorX << key.shift) << 4, 0, (key.sectorZ << key.shift) << 4);
+            task = AbyssalLib.SCHEDULER.schedule(this::tick).region(origin).repeatEvery(1, Clock.TICKS);
+        }
+
+        private void tick() {
+            Integer speed = world.getGameRuleValue(GameRule.RANDOM_TICK_SPEED);
+            int randomTickSpeed = speed == null ? 0 : speed;
+
+            Iterator<ChunkTicks> it = chunks.values().iterator();
+            while (it.hasNext()) {
+                ChunkTicks chunk = it.next();
+                chunk.prune();
+                if (chunk.isEmpty()) {
+                    it.remove();
+                    continue;
+                }
+                if (RegionalCollections.IS_FOLIA && shouldRelocate(chunk)) {
+                    it.remove();
+                    relocate(world, chunk);
+                    continue;
+                }
+                chunk.tick(world, randomTickSpeed);
+            }
+
+            if (chunks.isEmpty()) {
+                synchronized (this) {
+                    if (!chunks.isEmpty()) return;
+                    SECTORS.remove(key, this);
+                    if (task != null) {
+                        task.cancel();
+                        task = null;
+                    }
+                }
+            }
+        }
+
+        private boolean shouldRelocate(ChunkTicks chunk) {
+            if (!Bukkit.isOwnedByCurrentRegion(world, chunk.chunkX, chunk.chunkZ)) return true;
+            if (key.shift == SECTOR_SHIFT) return false;
+            return Bukkit.isOwnedByCurrentRegion(world, chunk.chunkX >> SECTOR_SHIFT << SECTOR_SHIFT, chunk.chunkZ >> SECTOR_SHIFT << SECTOR_SHIFT);
+        }
+    }
+
+    private static void relocate(World world, ChunkTicks chunk) {
+        List<CustomBlock> blocks = new ArrayList<>(chunk.blocks);
+        CustomBlock pending;
+        while ((pending = chunk.added.poll()) != null) {
+            blocks.add(pending);
+        }
+        if (blocks.isEmpty()) return;
+
+        SectorKey key = Bukkit.isOwnedByCurrentRegion(world, chunk.chunkX, chunk.chunkZ)
+            ? new SectorKey(world.getUID(), chunk.chunkX >> SECTOR_SHIFT, chunk.chunkZ >> SECTOR_SHIFT, SECTOR_SHIFT)
+            : new SectorKey(world.getUID(), chunk.chunkX, chunk.chunkZ, 0);
+        SECTORS.computeIfAbsent(key, k -> new Sector(world, k)).enqueue(chunk.chunkX, chunk.chunkZ, blocks);
+    }
+
+    private static final class ChunkTicks {
+        private final int chunkX;
+        private final int chunkZ;
+        private final Queue<CustomBlock> added = new ConcurrentLinkedQueue<>();
+        private final List<CustomBlock> blocks = new ArrayList<>();
+        private final Map<CustomBlock, Integer> members = new IdentityHashMap<>();
+        private final Map<Integer, Map<Integer, CustomBlock>> randomSections = new HashMap<>();
+        private int age;
+
+        private ChunkTicks(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        private boolean isEmpty() {
+            return blocks.isEmpty() && added.isEmpty();
+        }
+
+        private void prune() {
+            CustomBlock pending;
+            while ((pending = added.poll()) != null) {
+                if (!pending.isTicking() || members.containsKey(pending)) continue;
+                blocks.add(pending);
+
+                Integer randomKey = null;
+                if ((MODES.get(pending.getClass()) & RANDOM_TICKS) != 0) {
+                    randomKey = randomKey(pending.getLocation());
+                    randomSections.computeIfAbsent(randomKey >> 12, k -> new HashMap<>()).put(randomKey & 0xFFF, pending);
+                }
+                members.put(pending, randomKey);
+            }
+
+            int kept = 0;
+            for (int i = 0; i < blocks.size(); i++) {
+                CustomBlock block = blocks.get(i);
+                if (!block.isTicking() || block.getLocation() == null) {
+                    drop(block);
+                    continue;
+                }
+                blocks.set(kept++, block);
+            }
+            blocks.subList(kept, blocks.size()).clear();
+        }
+
+        private void tick(World world, int randomTickSpeed) {
+            if (blocks.isEmpty()) return;
+            if (!world.isChunkLoaded(chunkX, chunkZ)) return;
+
+            boolean verify = age++ % VERIFY_INTERVAL == 0;
+            int kept = 0;
+            for (int i = 0; i < blocks.size(); i++) {
+                CustomBlock block = blocks.get(i);
+                Location loc = block.getLocation();
+
+                if (verify && block.isTicking() && world.getType(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ()) != block.getMaterial()) {
+                    BlockManager.remove(loc);
+                }
+
+                if (!block.isTicking()) {
+                    drop(block);
+                    continue;
+                }
+
+                if ((MODES.get(block.getClass()) & TICKS) != 0) {
+                    try {
+                        block.onTick();
+                    } catch (Throwable t) {
+                        AbyssalLib.LOGGER.warning("Block at " + loc + " threw while ticking and was stopped: " + t);
+                        drop(block);
+                        continue;
+                    }
+                }
+                blocks.set(kept++, block);
+            }
+            blocks.subList(kept, blocks.size()).clear();
+
+            if (randomTickSpeed <= 0 || randomSections.isEmpty()) return;
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (Map<Integer, CustomBlock> section : List.copyOf(randomSections.values())) {
+                for (int n = 0; n < randomTickSpeed; n++) {
+                    CustomBlock block = section.get(random.nextInt(4096));
+                    if (block == null || !block.isTicking()) continue;
+                    try {
+                        block.onRandomTick();
+                    } catch (Throwable t) {
+                        AbyssalLib.LOGGER.warning("Block at " + block.getLocation() + " threw during a random tick: " + t);
+                    }
+                }
+            }
+        }
+
+        private void drop(CustomBlock block) {
+            block.clearTicking();
+            Integer randomKey = members.remove(block);
+            if (randomKey == null) return;
+
+            int sectionY = randomKey >> 12;
+            Map<Integer, CustomBlock> section = randomSections.get(sectionY);
+            if (section == null) return;
+            section.remove(randomKey & 0xFFF, block);
+            if (section.isEmpty()) randomSections.remove(sectionY);
+        }
+    }
+}
\ No newline at end of file
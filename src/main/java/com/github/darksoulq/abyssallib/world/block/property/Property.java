@@ -3,6 +3,7 @@ package com.github.darksoulq.abyssallib.world.block.property;
 import com.github.darksoulq.abyssallib.common.serialization.Codec;
 import com.github.darksoulq.abyssallib.common.serialization.DataResult;
 import com.github.darksoulq.abyssallib.common.serialization.DynamicOps;
+import org.jetbrains.annotations.ApiStatus;
 
 /**
  * A generic container for a block or entity property that supports automatic serialization.
@@ -29,6 +30,11 @@ public class Property<T> {
      */
     private final T defaultValue;
 
+    /**
+     * Notified whenever the value is changed through {@link #set(Object)}, or null.
+     */
+    private Runnable listener;
+
     /**
      * Constructs a new Property with a codec and an initial value.
      *
@@ -66,6 +72,20 @@ public class Property<T> {
      */
     public void set(T value) {
         this.value = value;
+        Runnable current = listener;
+        if (current != null) current.run();
+    }
+
+    /**
+     * Sets the callback notified whenever the value is changed through {@link #set(Object)}.
+     * <p>
+     * Used by the owning entity to learn that it needs to be persisted again.
+     *
+     * @param listener the callback, or null to remove it
+     */
+    @ApiStatus.Internal
+    public void setListener(Runnable listener) {
+        this.listener = listener;
     }
 
     /**
@@ -7,6 +7,7 @@ import com.github.darksoulq.abyssallib.common.serialization.DataError;
 import com.github.darksoulq.abyssallib.common.serialization.DataResult;
 import com.github.darksoulq.abyssallib.common.serialization.DynamicOps;
 import com.github.darksoulq.abyssallib.world.block.property.Property;
+import org.jetbrains.annotations.ApiStatus;
 
 import java.lang.reflect.Field;
 import java.util.*;
@@ -57,6 +58,35 @@ public abstract class AbstractPropertyEntity<T> {
     public void onSave() {
     }
 
+    /**
+     * Called whenever one of this entity's properties is changed through
+     * {@link Property#set(Object)}, once {@link #bindProperties()} has run.
+     */
+    protected void onPropertyChanged() {
+    }
+
+    /**
+     * Registers this entity as the listener of every discovered {@link Property},
+     * so that {@link #onPropertyChanged()} is called whenever one of them changes.
+     */
+    @ApiStatus.Internal
+    public void bindProperties() {
+        ReflectClass<?> rc = Reflect.of(getClass());
+
+        while (rc != null && rc.getUnderlyingClass() != AbstractPropertyEntity.class && rc.getUnderlyingClass() != Object.class) {
+            for (Field rawField : rc.getUnderlyingClass().getDeclaredFields()) {
+                ReflectField<Object> field = rc.field(rawField.getName()).getOrNull();
+
+                if (field == null || field.isStatic()) continue;
+
+                if (field.get(this).getOrNull() instanceof Property<?> prop) {
+                    prop.setListener(this::onPropertyChanged);
+                }
+            }
+            rc = rc.getSuperclass().getOrNull();
+        }
+    }
+
     /**
      * Serializes all discovered properties into a dynamic map.
      * <p>
@@ -92,7 +92,7 @@ public class EntityManager {
                 .value("entity_uuid", entity.uuid.toString())
                 .value("entity_id", entity.getId().toString())
                 .execute();
-        }).async().once();
+        }).async("database").once();
     }
 
     public static CustomEntity<? extends LivingEntity> get(UUID uuid) {
@@ -118,7 +118,7 @@ public class EntityManager {
             DATABASE.executor().table("entities").delete()
                 .where("entity_uuid = ?", uuid.toString())
                 .execute();
-        }).async().once();
+        }).async("database").once();
     }
 
     public static void restoreEntities() {
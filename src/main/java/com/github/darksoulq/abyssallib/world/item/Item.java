@@ -21,9 +21,13 @@ import io.papermc.paper.datacomponent.item.ItemLore;
 import io.papermc.paper.datacomponent.item.TooltipDisplay;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.StringTag;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.block.Block;
+import org.bukkit.craftbukkit.inventory.CraftItemStack;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -34,6 +38,7 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a custom item within the AbyssalLib framework.
@@ -43,6 +48,16 @@ import java.util.*;
 @SuppressWarnings("UnstableApiUsage")
 public class Item implements Cloneable {
 
+    /**
+     * The registry id of the {@link CustomMarker} component inside the {@code CustomComponents} tag.
+     */
+    private static final String MARKER_ID = AbyssalLib.PLUGIN_ID + ":marker";
+
+    /**
+     * Interned keys of registered custom items, indexed by their string form.
+     */
+    private static final Map<String, Key> INTERNED_IDS = new ConcurrentHashMap<>();
+
     /**
      * The unique {@link Key} representing the item's namespace and path.
      */
@@ -454,14 +469,7 @@ public class Item implements Cloneable {
      * @return A custom {@link Item} instance if valid, otherwise {@code null}.
      */
     public static Item resolve(ItemStack stack) {
-        if (stack == null || stack.getType().isAir()) {
-            return null;
-        }
-        Item base = new Item(stack);
-        if (!base.hasData(CustomMarker.TYPE)) {
-            return null;
-        }
-        Key id = base.getData(CustomMarker.TYPE).getValue();
+        Key id = idOf(stack);
         if (id == null) {
             return null;
         }
@@ -475,6 +483,34 @@ public class Item implements Cloneable {
         return clone;
     }
 
+    /**
+     * Reads the id of the custom item a stack represents without materializing an {@link Item}.
+     * <p>
+     * The marker is read directly from the stack's {@code custom_data} without copying it, and
+     * the returned key is shared between calls, so probing vanilla or empty stacks costs no
+     * allocation. Use {@link #resolve(ItemStack)} when the full item is actually needed.
+     *
+     * @param stack The {@link ItemStack} to check.
+     * @return The id of the registered custom item, or {@code null} if the stack is not one.
+     */
+    public static @Nullable Key idOf(@Nullable ItemStack stack) {
+        if (stack == null) return null;
+        net.minecraft.world.item.ItemStack nms = CraftItemStack.unwrap(stack);
+        if (nms.isEmpty()) return null;
+
+        net.minecraft.world.item.component.CustomData data = nms.get(DataComponents.CUSTOM_DATA);
+        if (data == null) return null;
+        if (!(data.getUnsafe().get("CustomData") instanceof CompoundTag custom)) return null;
+        if (!(custom.get("CustomComponents") instanceof CompoundTag components)) return null;
+        if (!(components.get(MARKER_ID) instanceof StringTag(String value))) return null;
+
+        Key id = INTERNED_IDS.get(value);
+        if (id != null) return id;
+        Item item = Registries.ITEMS.get(value);
+        if (item == null) return null;
+        return INTERNED_IDS.computeIfAbsent(value, v -> item.getId());
+    }
+
     /**
      * Attempts to find the custom block associated with a block-item.
      *
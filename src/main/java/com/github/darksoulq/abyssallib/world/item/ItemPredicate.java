@@ -231,16 +231,20 @@ public class ItemPredicate implements Predicate<ItemStack> {
             return false;
         }
 
-        Item item = Item.resolve(stack);
+        Key customId = Item.idOf(stack);
+        if (id != null && !id.equals(customId != null ? customId : stack.getType().getKey())) {
+            return false;
+        }
+        if (without.isEmpty() && with.isEmpty() && valued.isEmpty() && predicates.isEmpty()) {
+            return true;
+        }
+
+        Item item = customId != null ? Item.resolve(stack) : null;
         if (item == null) {
             item = new Item(stack);
         }
         final Item finalItem = item;
 
-        if (id != null && !id.equals(finalItem.getId())) {
-            return false;
-        }
-
         for (Condition<Key> condition : without) {
             if (condition.test(compId -> {
                 DataComponentType<?> type = Registries.DATA_COMPONENT_TYPES.get(compId.toString());
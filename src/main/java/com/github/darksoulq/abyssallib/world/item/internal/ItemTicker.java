@@ -12,6 +12,7 @@ import org.bukkit.inventory.ItemStack;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class ItemTicker {
@@ -56,10 +57,13 @@ public class ItemTicker {
     public static void update(Player player) {
         AbyssalLib.SCHEDULER.schedule(() -> {
             updateSync(player);
-        }).once();
+        }).coalesce(new UpdateKey(player.getUniqueId())).once();
     }
 
     public static void remove(Player player) {
         items.remove(player);
     }
+
+    private record UpdateKey(UUID player) {
+    }
 }
\ No newline at end of file
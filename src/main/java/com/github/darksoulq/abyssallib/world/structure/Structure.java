@@ -6,6 +6,7 @@ import com.github.darksoulq.abyssallib.common.serialization.*;
 import com.github.darksoulq.abyssallib.common.serialization.fixer.DataFixers;
 import com.github.darksoulq.abyssallib.common.serialization.ops.JsonOps;
 import com.github.darksoulq.abyssallib.server.registry.Registries;
+import com.github.darksoulq.abyssallib.server.scheduler.BudgetedQueue;
 import com.github.darksoulq.abyssallib.server.scheduler.Clock;
 import com.github.darksoulq.abyssallib.server.scheduler.ScheduledTask;
 import com.github.darksoulq.abyssallib.server.util.regional.RegionalProcessor;
@@ -235,7 +236,8 @@ public class Structure {
      * @param rotation      The {@link StructureRotation} to apply.
      * @param mirror        The {@link Mirror} transformation to apply.
      * @param integrity     The survival chance [0.0 - 1.0] for each individual block.
-     * @param blocksPerTick The maximum number of blocks to process per execution slice.
+     * @param blocksPerTick The maximum number of blocks to process per execution slice, or 0 to place as many
+     *                      blocks as the {@link BudgetedQueue tick budget} allows.
      * @return A {@link CompletableFuture} that resolves when the entire placement operation completes.
      */
     public CompletableFuture<Void> placeAsync(@NotNull Location origin, @NotNull StructureRotation rotation, @NotNull Mirror mirror, float integrity, int blocksPerTick) {
@@ -244,6 +246,20 @@ public class Structure {
         return future;
     }
 
+    /**
+     * Places this structure asynchronously, placing as many blocks each tick as the
+     * {@link BudgetedQueue tick budget} allows so placement adapts to server load.
+     *
+     * @param origin    The target placement origin {@link Location}.
+     * @param rotation  The {@link StructureRotation} to apply.
+     * @param mirror    The {@link Mirror} transformation to apply.
+     * @param integrity The survival chance [0.0 - 1.0] for each individual block.
+     * @return A {@link CompletableFuture} that resolves when the entire placement operation completes.
+     */
+    public CompletableFuture<Void> placeAsync(@NotNull Location origin, @NotNull StructureRotation rotation, @NotNull Mirror mirror, float integrity) {
+        return placeAsync(origin, rotation, mirror, integrity, 0);
+    }
+
     /**
      * Places this structure synchronously targeting regional thread execution requirements seamlessly.
      *
@@ -617,7 +633,37 @@ public class Structure {
         }
 
         public void start() {
-            activeTask = AbyssalLib.SCHEDULER.schedule(this::tick).region(origin).repeatEvery(1L, Clock.TICKS);
+            if (limit > 0) {
+                activeTask = AbyssalLib.SCHEDULER.schedule(this::tick).region(origin).repeatEvery(1L, Clock.TICKS);
+                return;
+            }
+
+            Iterator<Runnable> units = new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Runnable next() {
+                    StructureBlock sb = iterator.next();
+                    return () -> place(sb);
+                }
+            };
+            AbyssalLib.SCHEDULER.budgeted(origin).submit(BudgetedQueue.Priority.NORMAL, units, blocks.size()).future()
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        future.completeExceptionally(error);
+                        return;
+                    }
+                    placeEntities(null, origin, rotation, mirror, entities, null);
+                    future.complete(null);
+                });
+        }
+
+        private void place(StructureBlock sb) {
+            if (integrity < 1.0f && random.nextFloat() > integrity) return;
+            processStructureBlock(null, origin, sb, rotation, mirror, bakedData, bakedCustom, null);
         }
 
         private void tick() {